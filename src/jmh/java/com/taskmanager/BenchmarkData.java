@@ -0,0 +1,49 @@
+package com.taskmanager;
+
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic task fixtures shared by the benchmarks, spread over every status, priority and
+ * due-date bucket the dashboard distinguishes.
+ */
+public final class BenchmarkData {
+
+    public static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    public static final String[] PRIORITIES = {"HIGH", "MEDIUM", "LOW"};
+
+    private BenchmarkData() {
+    }
+
+    public static User user() {
+        return User.builder().id(1L).username("bench").email("bench@example.com").role("ROLE_USER").build();
+    }
+
+    public static List<Task> tasks(int count) {
+        Random random = new Random(42);
+        User user = user();
+        LocalDate today = LocalDate.now();
+        LocalDateTime created = today.atStartOfDay().minusDays(30);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int dueOffset = random.nextInt(40) - 10;
+            tasks.add(Task.builder()
+                    .id((long) i + 1)
+                    .title("Task " + i)
+                    .description(i % 3 == 0 ? null : "Description of task " + i)
+                    .status(STATUSES[random.nextInt(STATUSES.length)])
+                    .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                    .dueDate(i % 5 == 0 ? null : today.plusDays(dueOffset))
+                    .createdAt(created.plusMinutes(i))
+                    .user(user)
+                    .build());
+        }
+        return tasks;
+    }
+}
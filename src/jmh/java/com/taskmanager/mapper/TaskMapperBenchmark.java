@@ -0,0 +1,52 @@
+package com.taskmanager.mapper;
+
+import com.taskmanager.BenchmarkData;
+import com.taskmanager.dto.response.TaskResponseDto;
+import com.taskmanager.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskMapper#toResponseDto} over a whole task list, the way the list endpoints map a page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private final TaskMapper mapper = new TaskMapperImpl();
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.tasks(size);
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> toResponseDtoList() {
+        List<TaskResponseDto> result = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            result.add(mapper.toResponseDto(task));
+        }
+        return result;
+    }
+}
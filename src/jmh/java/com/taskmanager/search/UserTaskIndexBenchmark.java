@@ -0,0 +1,83 @@
+package com.taskmanager.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of one user's search index. Titles and descriptions are drawn from a skewed
+ * vocabulary, so common words have long posting lists and rare ones short ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserTaskIndexBenchmark {
+
+    private static final int VOCABULARY = 5_000;
+
+    @Param({"1000", "100000"})
+    private int tasks;
+
+    private UserTaskIndex index;
+    private String[] words;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = "w" + Integer.toString(i, 36) + (char) ('a' + random.nextInt(26)) + (char) ('a' + random.nextInt(26));
+        }
+        index = new UserTaskIndex();
+        index.loadOnce(loading -> {
+            for (long id = 1; id <= tasks; id++) {
+                loading.load(id, sentence(random, 5), sentence(random, 15));
+            }
+        });
+    }
+
+    @Benchmark
+    public List<Long> commonTerm() {
+        return index.search(words[0], 20);
+    }
+
+    @Benchmark
+    public List<Long> rareTerm() {
+        return index.search(words[VOCABULARY - 1], 20);
+    }
+
+    @Benchmark
+    public List<Long> twoTermsAnd() {
+        return index.search(words[1] + " " + words[50], 20);
+    }
+
+    @Benchmark
+    public List<Long> prefix() {
+        return index.search(words[200].substring(0, words[200].length() - 1), 20);
+    }
+
+    private String sentence(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            // squaring a uniform value skews picks toward the start of the vocabulary
+            double u = random.nextDouble();
+            text.append(words[(int) (u * u * VOCABULARY)]).append(' ');
+        }
+        return text.toString();
+    }
+}
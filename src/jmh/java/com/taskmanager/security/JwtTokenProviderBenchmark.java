@@ -0,0 +1,73 @@
+package com.taskmanager.security;
+
+import com.taskmanager.BenchmarkData;
+import com.taskmanager.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and the per-request verification paths, with and without the verified-claims cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "your-super-secret-256-bit-key-change-this-in-production";
+
+    private final User user = BenchmarkData.user();
+    private JwtTokenProvider uncached;
+    private JwtTokenProvider cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = provider(0);
+        cached = provider(10_000);
+        token = cached.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return uncached.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsernameUncached() {
+        return uncached.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValidUncached() {
+        return uncached.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public boolean isTokenValidCached() {
+        return cached.isTokenValid(token, user);
+    }
+
+    private static JwtTokenProvider provider(int cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(provider, "secret", SECRET);
+        ReflectionTestUtils.setField(provider, "expiration", 86_400_000L);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxSize", cacheSize);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskmanager.service;
+
+import com.taskmanager.BenchmarkData;
+import com.taskmanager.TaskManagementSystemApplication;
+import com.taskmanager.dto.response.TaskResponseDto;
+import com.taskmanager.entity.Task;
+import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One task list request two ways: loading managed {@code Task} entities and mapping them, as the list
+ * endpoints used to, against {@link TaskService#getAllTasks} selecting {@code TaskRow} projections in a
+ * read-only transaction. Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm}, the bytes
+ * allocated per request. Caches are off so both paths read every row from H2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskListReadBenchmark {
+
+    @Param({"50", "1000"})
+    private int taskCount;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private TaskMapper taskMapper;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:list-bench;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--search.rebuild-on-startup=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.taskmanager=WARN");
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        taskMapper = context.getBean(TaskMapper.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("INSERT INTO users (username, email, password) VALUES ('bench', 'bench@example.com', 'x')");
+        userId = jdbc.queryForObject("SELECT id FROM users WHERE username = 'bench'", Long.class);
+
+        List<Object[]> rows = new ArrayList<>(taskCount);
+        for (Task task : BenchmarkData.tasks(taskCount)) {
+            rows.add(new Object[]{task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(),
+                    task.getDueDate() == null ? null : Date.valueOf(task.getDueDate()),
+                    Timestamp.valueOf(task.getCreatedAt()), userId});
+        }
+        jdbc.batchUpdate("INSERT INTO tasks (title, description, status, priority, due_date, created_at, user_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> entities() {
+        return taskRepository.findAllByUserId(userId).stream()
+                .map(taskMapper::toResponseDto)
+                .toList();
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> projection() {
+        return taskService.getAllTasks(userId);
+    }
+}
@@ -0,0 +1,117 @@
+package com.taskmanager.service;
+
+import com.taskmanager.BenchmarkData;
+import com.taskmanager.TaskManagementSystemApplication;
+import com.taskmanager.dto.response.TaskStatsDto;
+import com.taskmanager.entity.Task;
+import com.taskmanager.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The three ways the stats page can be produced for one user: reading the maintained counter row,
+ * the grouped aggregate query used to rebuild it, and loading every task entity and folding in Java
+ * as the page originally did. Runs against the embedded H2 database with Flyway applied and the
+ * second-level cache off, so the entity scan really loads every row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskStatsBenchmark {
+
+    @Param({"1000", "100000"})
+    private int taskCount;
+
+    private ConfigurableApplicationContext context;
+    private TaskStatsService taskStatsService;
+    private TaskRepository taskRepository;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:stats-bench;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "--spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.taskmanager=WARN");
+        taskStatsService = context.getBean(TaskStatsService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("INSERT INTO users (username, email, password) VALUES ('bench', 'bench@example.com', 'x')");
+        userId = jdbc.queryForObject("SELECT id FROM users WHERE username = 'bench'", Long.class);
+
+        List<Object[]> rows = new ArrayList<>(taskCount);
+        for (Task task : BenchmarkData.tasks(taskCount)) {
+            rows.add(new Object[]{task.getTitle(), task.getStatus(), task.getPriority(),
+                    task.getDueDate() == null ? null : Date.valueOf(task.getDueDate()), userId});
+        }
+        jdbc.batchUpdate("INSERT INTO tasks (title, status, priority, due_date, user_id) VALUES (?, ?, ?, ?, ?)", rows);
+
+        // builds the counter row so counterRow measures the steady-state read
+        taskStatsService.getStats(userId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskStatsDto counterRow() {
+        return taskStatsService.getStats(userId);
+    }
+
+    @Benchmark
+    public TaskStatsDto aggregateQuery() {
+        LocalDate today = LocalDate.now();
+        TaskStatsDto stats = new TaskStatsDto();
+        taskRepository.aggregateStatsByUserId(userId, today, today.plusDays(3))
+                .forEach(row -> stats.add(row.getStatus(), row.getPriority(), row.getTotal(),
+                        row.getOverdue(), row.getDueToday(), row.getDueSoon(), row.getOnTrack(), row.getNoDate()));
+        return stats;
+    }
+
+    @Benchmark
+    public TaskStatsDto entityScan() {
+        LocalDate today = LocalDate.now();
+        LocalDate soonUntil = today.plusDays(3);
+        TaskStatsDto stats = new TaskStatsDto();
+        for (Task task : taskRepository.findAllByUserId(userId)) {
+            LocalDate due = task.getDueDate();
+            stats.add(task.getStatus(), task.getPriority(), 1,
+                    due != null && due.isBefore(today) ? 1 : 0,
+                    due != null && due.isEqual(today) ? 1 : 0,
+                    due != null && due.isAfter(today) && !due.isAfter(soonUntil) ? 1 : 0,
+                    due != null && due.isAfter(soonUntil) ? 1 : 0,
+                    due == null ? 1 : 0);
+        }
+        return stats;
+    }
+}
@@ -1,16 +1,21 @@
 package com.taskmanager.config;
 
+import com.taskmanager.security.CurrentUserIdArgumentResolver;
 import com.taskmanager.security.SessionAuthInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final SessionAuthInterceptor sessionAuthInterceptor;
+    private final CurrentUserIdArgumentResolver currentUserIdArgumentResolver;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -18,4 +23,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .addPathPatterns("/dashboard", "/stats", "/ui/tasks/**")
                 .excludePathPatterns("/ui/login", "/ui/register", "/ui/logout");
     }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserIdArgumentResolver);
+    }
 }
@@ -3,14 +3,19 @@ package com.taskmanager.controller;
 import com.taskmanager.dto.request.LoginRequestDto;
 import com.taskmanager.dto.request.RegisterRequestDto;
 import com.taskmanager.dto.response.AuthResponseDto;
+import com.taskmanager.dto.response.AvailabilityResponseDto;
 import com.taskmanager.dto.response.UserResponseDto;
+import com.taskmanager.service.AccountAvailabilityService;
 import com.taskmanager.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -19,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final AccountAvailabilityService accountAvailabilityService;
 
     @PostMapping("/register")
     public ResponseEntity<UserResponseDto> register(@Valid @RequestBody RegisterRequestDto request) {
@@ -29,4 +35,13 @@ public class AuthController {
     public ResponseEntity<AuthResponseDto> login(@Valid @RequestBody LoginRequestDto request) {
         return ResponseEntity.ok(authService.login(request));
     }
+
+    @GetMapping("/available")
+    public ResponseEntity<AvailabilityResponseDto> available(
+            @RequestParam(name = "username", required = false) String username,
+            @RequestParam(name = "email", required = false) String email) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(accountAvailabilityService.check(username, email));
+    }
 }
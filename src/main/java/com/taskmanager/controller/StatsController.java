@@ -1,64 +1,58 @@
 package com.taskmanager.controller;
 
-import com.taskmanager.entity.Task;
-import com.taskmanager.entity.User;
-import com.taskmanager.repository.TaskRepository;
-import com.taskmanager.repository.UserRepository;
-import com.taskmanager.security.JwtTokenProvider;
-import jakarta.servlet.http.HttpSession;
+import com.taskmanager.dto.response.TaskStatsDto;
+import com.taskmanager.dto.response.TaskTrendDto;
+import com.taskmanager.security.CurrentUserId;
+import com.taskmanager.service.TaskHistoryService;
+import com.taskmanager.service.TaskStatsService;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-
-import java.time.LocalDate;
-import java.util.List;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 @Controller
 @RequiredArgsConstructor
-@Slf4j
 public class StatsController {
 
-    private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final TaskStatsService taskStatsService;
+    private final TaskHistoryService taskHistoryService;
 
     @GetMapping("/stats")
-    public String statsPage(HttpSession session, Model model) {
-        Long userId = getUserIdFromSession(session);
+    public String statsPage(@CurrentUserId Long userId, Model model) {
         if (userId == null) return "redirect:/login";
 
-        List<Task> tasks = taskRepository.findAllByUserId(userId);
-        LocalDate today = LocalDate.now();
+        TaskStatsDto stats = taskStatsService.getStats(userId);
 
-        long todo       = count(tasks, "TODO",        null);
-        long inProgress = count(tasks, "IN_PROGRESS", null);
-        long done       = count(tasks, "DONE",        null);
+        long todo       = stats.getTodo();
+        long inProgress = stats.getInProgress();
+        long done       = stats.getDone();
 
-        long high   = countPriority(tasks, "HIGH");
-        long medium = countPriority(tasks, "MEDIUM");
-        long low    = countPriority(tasks, "LOW");
+        long high   = stats.getHigh();
+        long medium = stats.getMedium();
+        long low    = stats.getLow();
 
-        long highDone       = count(tasks, "DONE",        "HIGH");
-        long highInProgress = count(tasks, "IN_PROGRESS", "HIGH");
-        long highTodo       = count(tasks, "TODO",        "HIGH");
+        long highDone       = stats.getHighDone();
+        long highInProgress = stats.getHighInProgress();
+        long highTodo       = stats.getHighTodo();
 
-        long mediumDone       = count(tasks, "DONE",        "MEDIUM");
-        long mediumInProgress = count(tasks, "IN_PROGRESS", "MEDIUM");
-        long mediumTodo       = count(tasks, "TODO",        "MEDIUM");
+        long mediumDone       = stats.getMediumDone();
+        long mediumInProgress = stats.getMediumInProgress();
+        long mediumTodo       = stats.getMediumTodo();
 
-        long lowDone       = count(tasks, "DONE",        "LOW");
-        long lowInProgress = count(tasks, "IN_PROGRESS", "LOW");
-        long lowTodo       = count(tasks, "TODO",        "LOW");
+        long lowDone       = stats.getLowDone();
+        long lowInProgress = stats.getLowInProgress();
+        long lowTodo       = stats.getLowTodo();
 
-        long overdue  = tasks.stream().filter(t -> t.getDueDate() != null && t.getDueDate().isBefore(today)                                               && !"DONE".equals(t.getStatus())).count();
-        long dueToday = tasks.stream().filter(t -> t.getDueDate() != null && t.getDueDate().isEqual(today)                                               && !"DONE".equals(t.getStatus())).count();
-        long dueSoon  = tasks.stream().filter(t -> t.getDueDate() != null && t.getDueDate().isAfter(today)   && t.getDueDate().isBefore(today.plusDays(4)) && !"DONE".equals(t.getStatus())).count();
-        long onTrack  = tasks.stream().filter(t -> t.getDueDate() != null && t.getDueDate().isAfter(today.plusDays(3))                                   && !"DONE".equals(t.getStatus())).count();
-        long noDate   = tasks.stream().filter(t -> t.getDueDate() == null && !"DONE".equals(t.getStatus())).count();
+        long overdue  = stats.getOverdue();
+        long dueToday = stats.getDueToday();
+        long dueSoon  = stats.getDueSoon();
+        long onTrack  = stats.getOnTrack();
+        long noDate   = stats.getNoDate();
 
-        int total          = tasks.size();
+        int total          = (int) stats.getTotal();
         int completionRate = total == 0 ? 0 : (int) (done * 100 / total);
 
         int completionComponent    = total == 0 ? 0 : (int) (done * 40 / total);
@@ -102,15 +96,12 @@ public class StatsController {
         return "stats";
     }
 
-    private long count(List<Task> tasks, String status, String priority) {
-        return tasks.stream()
-                .filter(t -> status.equals(t.getStatus()))
-                .filter(t -> priority == null || priority.equals(t.getPriority()))
-                .count();
-    }
-
-    private long countPriority(List<Task> tasks, String priority) {
-        return tasks.stream().filter(t -> priority.equals(t.getPriority())).count();
+    @GetMapping("/ui/stats/trend")
+    @ResponseBody
+    public ResponseEntity<TaskTrendDto> trend(@RequestParam(name = "days", defaultValue = "30") int days,
+                                              @CurrentUserId Long userId) {
+        if (userId == null) return ResponseEntity.status(401).build();
+        return ResponseEntity.ok(taskHistoryService.getTrend(userId, days));
     }
 
     private String scoreColor(int score) {
@@ -144,16 +135,4 @@ public class StatsController {
         if (score >= 40) return "Needs attention. Focus on high-priority and overdue tasks.";
         return "Time to regroup. Start by clearing overdue and high-priority tasks.";
     }
-
-    private Long getUserIdFromSession(HttpSession session) {
-        String token = (String) session.getAttribute("jwt_token");
-        if (token == null) return null;
-        try {
-            String username = jwtTokenProvider.extractUsername(token);
-            return userRepository.findByUsername(username).map(User::getId).orElse(null);
-        } catch (Exception e) {
-            log.error("Failed to extract user from session: {}", e.getMessage());
-            return null;
-        }
-    }
 }
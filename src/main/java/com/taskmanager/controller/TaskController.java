@@ -1,17 +1,37 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.dto.request.TaskBulkRequestDto;
 import com.taskmanager.dto.request.TaskCreateDto;
+import com.taskmanager.dto.request.TaskFilterDto;
 import com.taskmanager.dto.request.TaskUpdateDto;
+import com.taskmanager.dto.response.TaskBulkResponseDto;
+import com.taskmanager.dto.response.TaskImportReportDto;
+import com.taskmanager.dto.response.TaskPageResponseDto;
 import com.taskmanager.dto.response.TaskResponseDto;
-import com.taskmanager.entity.User;
+import com.taskmanager.dto.response.TaskTrendDto;
+import com.taskmanager.security.JwtPrincipal;
+import com.taskmanager.service.TaskDataFormat;
+import com.taskmanager.service.TaskExportService;
+import com.taskmanager.service.TaskHistoryService;
+import com.taskmanager.service.TaskImportService;
+import com.taskmanager.service.TaskSearchService;
 import com.taskmanager.service.TaskService;
+import com.taskmanager.service.TaskVersionService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -20,11 +40,58 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskVersionService taskVersionService;
+    private final TaskSearchService taskSearchService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskHistoryService taskHistoryService;
 
+    @Operation(summary = "List the current user's tasks, one page at a time",
+            description = """
+                    Returns a page object, not a bare array: `items` holds up to `limit` tasks (default 50, \
+                    max 200) and `next` is an opaque cursor for the following page, null on the last one. \
+                    Pass it back as `cursor` with the same `sort` and filters to continue. Breaking change \
+                    in API 2.0: earlier versions returned every task as a JSON array; clients that need \
+                    the full set must follow `next` until it is null.
+                    """)
     @GetMapping
-    public ResponseEntity<List<TaskResponseDto>> getAllTasks() {
+    public ResponseEntity<TaskPageResponseDto> getTasks(TaskFilterDto filter, WebRequest webRequest) {
         Long userId = getCurrentUserId();
-        return ResponseEntity.ok(taskService.getAllTasks(userId));
+        String etag = taskVersionService.etag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(etag)
+                .body(taskService.getTasks(filter, userId));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskResponseDto>> searchTasks(@RequestParam("q") String query,
+                                                             @RequestParam(name = "limit", required = false) Integer limit) {
+        Long userId = getCurrentUserId();
+        return ResponseEntity.ok(taskSearchService.search(query, limit, userId));
+    }
+
+    @GetMapping("/trend")
+    public ResponseEntity<TaskTrendDto> getTrend(@RequestParam(name = "days", defaultValue = "30") int days) {
+        Long userId = getCurrentUserId();
+        return ResponseEntity.ok(taskHistoryService.getTrend(userId, days));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(name = "format", required = false) String format) {
+        Long userId = getCurrentUserId();
+        TaskDataFormat exportFormat = TaskDataFormat.fromParam(format);
+        StreamingResponseBody body = out -> taskExportService.export(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.getParam())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @PostMapping
@@ -33,6 +100,23 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTask(request, userId));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<TaskBulkResponseDto> applyBulk(@Valid @RequestBody TaskBulkRequestDto request) {
+        TaskBulkResponseDto response = taskService.applyBulk(request, getCurrentUserId());
+        return ResponseEntity.status(response.isApplied() ? HttpStatus.OK : HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(response);
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<TaskImportReportDto> importTasks(@RequestParam(name = "format", required = false) String format,
+                                                           HttpServletRequest request) throws IOException {
+        Long userId = getCurrentUserId();
+        TaskDataFormat dataFormat = format != null
+                ? TaskDataFormat.fromParam(format)
+                : TaskDataFormat.fromContentType(request.getContentType());
+        return ResponseEntity.ok(taskImportService.importTasks(userId, dataFormat, request.getInputStream()));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long id) {
         Long userId = getCurrentUserId();
@@ -54,6 +138,6 @@ public class TaskController {
     }
 
     private Long getCurrentUserId() {
-        return ((User) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getId();
+        return ((JwtPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).id();
     }
 }
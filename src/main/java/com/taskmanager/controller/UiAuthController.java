@@ -3,6 +3,8 @@ package com.taskmanager.controller;
 import com.taskmanager.dto.request.LoginRequestDto;
 import com.taskmanager.dto.request.RegisterRequestDto;
 import com.taskmanager.dto.response.AuthResponseDto;
+import com.taskmanager.exception.ServiceUnavailableException;
+import com.taskmanager.security.SessionUserService;
 import com.taskmanager.service.AuthService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 public class UiAuthController {
 
     private final AuthService authService;
+    private final SessionUserService sessionUserService;
 
     @PostMapping("/register")
     public String register(@RequestParam String username,
@@ -31,16 +34,9 @@ public class UiAuthController {
                     .email(email)
                     .password(password)
                     .build();
-            authService.register(request);
+            AuthResponseDto authResponse = authService.registerAndIssueToken(request);
 
-            LoginRequestDto loginRequest = LoginRequestDto.builder()
-                    .username(username)
-                    .password(password)
-                    .build();
-            AuthResponseDto authResponse = authService.login(loginRequest);
-
-            session.setAttribute("jwt_token", authResponse.getToken());
-            session.setAttribute("username", authResponse.getUsername());
+            sessionUserService.signIn(session, authResponse);
 
             return "redirect:/dashboard";
         } catch (Exception e) {
@@ -60,10 +56,12 @@ public class UiAuthController {
                     .build();
             AuthResponseDto authResponse = authService.login(request);
 
-            session.setAttribute("jwt_token", authResponse.getToken());
-            session.setAttribute("username", authResponse.getUsername());
+            sessionUserService.signIn(session, authResponse);
 
             return "redirect:/dashboard";
+        } catch (ServiceUnavailableException e) {
+            log.warn("Login refused: {}", e.getMessage());
+            return "redirect:/login?error=" + e.getMessage();
         } catch (Exception e) {
             log.error("Login failed: {}", e.getMessage());
             return "redirect:/login?error=Invalid credentials";
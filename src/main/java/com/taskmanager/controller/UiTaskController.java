@@ -3,19 +3,24 @@ package com.taskmanager.controller;
 import com.taskmanager.dto.request.TaskCreateDto;
 import com.taskmanager.dto.request.TaskUpdateDto;
 import com.taskmanager.dto.response.TaskResponseDto;
-import com.taskmanager.entity.User;
-import com.taskmanager.repository.UserRepository;
-import com.taskmanager.security.JwtTokenProvider;
+import com.taskmanager.security.CurrentUserId;
+import com.taskmanager.service.TaskEventStreamService;
 import com.taskmanager.service.TaskService;
+import com.taskmanager.service.TaskStatsService;
+import com.taskmanager.service.TaskVersionService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -27,29 +32,53 @@ import java.util.List;
 public class UiTaskController {
 
     private final TaskService taskService;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final TaskStatsService taskStatsService;
+    private final TaskVersionService taskVersionService;
+    private final TaskEventStreamService taskEventStreamService;
 
     @GetMapping("/list")
-    public String listTasks(HttpSession session, Model model,
+    public String listTasks(@CurrentUserId Long userId, Model model, WebRequest webRequest,
                             HttpServletRequest request, HttpServletResponse response) {
-        Long userId = getUserIdFromSession(session);
         if (userId == null) return handleUnauthorized(request, response);
 
+        String etag = taskVersionService.etag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+
         List<TaskResponseDto> tasks = taskService.getAllTasks(userId);
         model.addAttribute("tasks", tasks);
         return "task-list :: taskList";
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public ResponseEntity<SseEmitter> streamEvents(@CurrentUserId Long userId,
+                                                   @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        if (userId == null) return ResponseEntity.status(401).build();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")
+                .body(taskEventStreamService.subscribe(userId, lastEventId));
+    }
+
+    @GetMapping("/{id}/card")
+    public String taskCard(@PathVariable("id") Long id, @CurrentUserId Long userId, Model model,
+                           HttpServletRequest request, HttpServletResponse response) {
+        if (userId == null) return handleUnauthorized(request, response);
+
+        return renderDelta(userId, taskService.getTaskById(id, userId), null, model);
+    }
+
     @PostMapping("/create")
     public String createTask(@RequestParam("title") String title,
                              @RequestParam(name = "description", required = false) String description,
                              @RequestParam(name = "priority", required = false) String priority,
                              @RequestParam(name = "status", required = false) String status,
                              @RequestParam(name = "dueDate", required = false) String dueDate,
-                             HttpSession session, Model model,
+                             @CurrentUserId Long userId, Model model,
                              HttpServletRequest request, HttpServletResponse response) {
-        Long userId = getUserIdFromSession(session);
         if (userId == null) return handleUnauthorized(request, response);
 
         TaskCreateDto dto = TaskCreateDto.builder()
@@ -60,11 +89,8 @@ public class UiTaskController {
                 .dueDate(dueDate != null && !dueDate.isBlank() ? LocalDate.parse(dueDate) : null)
                 .build();
 
-        taskService.createTask(dto, userId);
-
-        List<TaskResponseDto> tasks = taskService.getAllTasks(userId);
-        model.addAttribute("tasks", tasks);
-        return "task-list :: taskList";
+        TaskResponseDto created = taskService.createTask(dto, userId);
+        return renderDelta(userId, created, null, model);
     }
 
     @PostMapping("/update")
@@ -74,9 +100,9 @@ public class UiTaskController {
                              @RequestParam(name = "status", required = false) String status,
                              @RequestParam(name = "priority", required = false) String priority,
                              @RequestParam(name = "dueDate", required = false) String dueDate,
-                             HttpSession session, Model model,
+                             @RequestParam(name = "version", required = false) Long version,
+                             @CurrentUserId Long userId, Model model,
                              HttpServletRequest request, HttpServletResponse response) {
-        Long userId = getUserIdFromSession(session);
         if (userId == null) return handleUnauthorized(request, response);
 
         TaskUpdateDto updateDto = TaskUpdateDto.builder()
@@ -85,51 +111,50 @@ public class UiTaskController {
                 .status(status)
                 .priority(priority)
                 .dueDate(dueDate != null && !dueDate.isBlank() ? LocalDate.parse(dueDate) : null)
+                .version(version)
                 .build();
 
-        taskService.updateTask(taskId, updateDto, userId);
-
-        List<TaskResponseDto> tasks = taskService.getAllTasks(userId);
-        model.addAttribute("tasks", tasks);
-        return "task-list :: taskList";
+        TaskResponseDto updated = taskService.updateTask(taskId, updateDto, userId);
+        return renderDelta(userId, updated, null, model);
     }
 
     @DeleteMapping("/{id}")
-    public String deleteTask(@PathVariable("id") Long id, HttpSession session, Model model,
+    public String deleteTask(@PathVariable("id") Long id, @CurrentUserId Long userId, Model model,
                              HttpServletRequest request, HttpServletResponse response) {
-        Long userId = getUserIdFromSession(session);
         if (userId == null) return handleUnauthorized(request, response);
 
         taskService.deleteTask(id, userId);
-
-        List<TaskResponseDto> tasks = taskService.getAllTasks(userId);
-        model.addAttribute("tasks", tasks);
-        return "task-list :: taskList";
+        return renderDelta(userId, null, id, model);
     }
 
     @PostMapping("/{id}/done")
-    public String markDone(@PathVariable("id") Long id, HttpSession session, Model model,
+    public String markDone(@PathVariable("id") Long id,
+                           @RequestParam(name = "version", required = false) Long version,
+                           @CurrentUserId Long userId, Model model,
                            HttpServletRequest request, HttpServletResponse response) {
-        Long userId = getUserIdFromSession(session);
         if (userId == null) return handleUnauthorized(request, response);
 
-        TaskUpdateDto updateDto = TaskUpdateDto.builder().status("DONE").build();
-        taskService.updateTask(id, updateDto, userId);
-
-        List<TaskResponseDto> tasks = taskService.getAllTasks(userId);
-        model.addAttribute("tasks", tasks);
-        return "task-list :: taskList";
+        TaskResponseDto updated = taskService.moveTask(id, "DONE", version, userId);
+        return renderDelta(userId, updated, null, model);
     }
 
     @PostMapping("/{id}/status")
     @ResponseBody
     public ResponseEntity<Void> moveTask(@PathVariable("id") Long id,
                                          @RequestParam("status") String status,
-                                         HttpSession session) {
-        Long userId = getUserIdFromSession(session);
+                                         @RequestParam(name = "version", required = false) Long version,
+                                         @CurrentUserId Long userId) {
         if (userId == null) return ResponseEntity.status(401).build();
-        taskService.updateTask(id, TaskUpdateDto.builder().status(status).build(), userId);
-        return ResponseEntity.noContent().build();
+        TaskResponseDto moved = taskService.moveTask(id, status, version, userId);
+        // the board keeps the card it dragged, so hand back the version its next move has to send
+        return ResponseEntity.noContent().eTag(String.valueOf(moved.getVersion())).build();
+    }
+
+    private String renderDelta(Long userId, TaskResponseDto task, Long removedId, Model model) {
+        model.addAttribute("task", task);
+        model.addAttribute("removedId", removedId);
+        model.addAttribute("stats", taskStatsService.getStats(userId));
+        return "task-list :: taskDelta";
     }
 
     private String handleUnauthorized(HttpServletRequest request, HttpServletResponse response) {
@@ -139,19 +164,4 @@ public class UiTaskController {
         }
         return "redirect:/login";
     }
-
-    private Long getUserIdFromSession(HttpSession session) {
-        String token = (String) session.getAttribute("jwt_token");
-        if (token == null) return null;
-
-        try {
-            String username = jwtTokenProvider.extractUsername(token);
-            return userRepository.findByUsername(username)
-                    .map(User::getId)
-                    .orElse(null);
-        } catch (Exception e) {
-            log.error("Failed to extract user from session JWT: {}", e.getMessage());
-            return null;
-        }
-    }
 }
@@ -1,6 +1,7 @@
 package com.taskmanager.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,9 +14,11 @@ import lombok.NoArgsConstructor;
 public class RegisterRequestDto {
 
     @NotBlank
+    @Size(max = 50)
     private String username;
 
     @NotBlank
+    @Size(max = 100)
     private String email;
 
     @NotBlank
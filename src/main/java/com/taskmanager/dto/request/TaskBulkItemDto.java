@@ -0,0 +1,38 @@
+package com.taskmanager.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkItemDto {
+
+    public enum Operation {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    private Operation op;
+
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    private String status;
+
+    private String priority;
+
+    private LocalDate dueDate;
+
+    /** The version the client last saw; the change is rejected with a conflict if the task has moved on. */
+    private Long version;
+}
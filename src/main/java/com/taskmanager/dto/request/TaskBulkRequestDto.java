@@ -0,0 +1,21 @@
+package com.taskmanager.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkRequestDto {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<TaskBulkItemDto> items;
+}
@@ -22,4 +22,7 @@ public class TaskUpdateDto {
     private String priority;
 
     private LocalDate dueDate;
+
+    /** The version the client last saw; the change is rejected with a conflict if the task has moved on. */
+    private Long version;
 }
@@ -0,0 +1,21 @@
+package com.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityResponseDto {
+
+    private String username;
+
+    private Boolean usernameAvailable;
+
+    private String email;
+
+    private Boolean emailAvailable;
+}
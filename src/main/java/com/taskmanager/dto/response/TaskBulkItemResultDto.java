@@ -0,0 +1,32 @@
+package com.taskmanager.dto.response;
+
+import com.taskmanager.dto.request.TaskBulkItemDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkItemResultDto {
+
+    public enum Outcome {
+        APPLIED,
+        FAILED,
+        SKIPPED
+    }
+
+    private int index;
+
+    private TaskBulkItemDto.Operation op;
+
+    private Long id;
+
+    private Outcome outcome;
+
+    private String message;
+
+    private TaskResponseDto task;
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResponseDto {
+
+    private boolean applied;
+
+    private int created;
+
+    private int updated;
+
+    private int deleted;
+
+    private int failed;
+
+    private List<TaskBulkItemResultDto> results;
+}
@@ -0,0 +1,34 @@
+package com.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportReportDto {
+
+    private String format;
+
+    private long received;
+
+    private long imported;
+
+    private long failed;
+
+    private int batches;
+
+    private long durationMs;
+
+    private double rowsPerSecond;
+
+    /** The first failures, in input order; {@code errorsTruncated} is set when there were more. */
+    private List<TaskImportErrorDto> errors;
+
+    private boolean errorsTruncated;
+}
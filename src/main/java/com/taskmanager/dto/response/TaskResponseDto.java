@@ -29,4 +29,6 @@ public class TaskResponseDto {
     private LocalDateTime createdAt;
 
     private Long userId;
+
+    private Long version;
 }
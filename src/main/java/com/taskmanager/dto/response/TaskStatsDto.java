@@ -0,0 +1,92 @@
+package com.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDto {
+
+    private long total;
+
+    private long todo;
+    private long inProgress;
+    private long done;
+
+    private long high;
+    private long medium;
+    private long low;
+
+    private long highTodo;
+    private long highInProgress;
+    private long highDone;
+
+    private long mediumTodo;
+    private long mediumInProgress;
+    private long mediumDone;
+
+    private long lowTodo;
+    private long lowInProgress;
+    private long lowDone;
+
+    private long overdue;
+    private long dueToday;
+    private long dueSoon;
+    private long onTrack;
+    private long noDate;
+
+    public void add(String status, String priority, long count,
+                    long overdueCount, long dueTodayCount, long dueSoonCount, long onTrackCount, long noDateCount) {
+        total += count;
+
+        switch (priority) {
+            case "HIGH" -> high += count;
+            case "MEDIUM" -> medium += count;
+            case "LOW" -> low += count;
+            default -> { }
+        }
+
+        switch (status) {
+            case "TODO" -> {
+                todo += count;
+                switch (priority) {
+                    case "HIGH" -> highTodo += count;
+                    case "MEDIUM" -> mediumTodo += count;
+                    case "LOW" -> lowTodo += count;
+                    default -> { }
+                }
+            }
+            case "IN_PROGRESS" -> {
+                inProgress += count;
+                switch (priority) {
+                    case "HIGH" -> highInProgress += count;
+                    case "MEDIUM" -> mediumInProgress += count;
+                    case "LOW" -> lowInProgress += count;
+                    default -> { }
+                }
+            }
+            case "DONE" -> {
+                done += count;
+                switch (priority) {
+                    case "HIGH" -> highDone += count;
+                    case "MEDIUM" -> mediumDone += count;
+                    case "LOW" -> lowDone += count;
+                    default -> { }
+                }
+            }
+            default -> { }
+        }
+
+        if (!"DONE".equals(status)) {
+            overdue += overdueCount;
+            dueToday += dueTodayCount;
+            dueSoon += dueSoonCount;
+            onTrack += onTrackCount;
+            noDate += noDateCount;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStreamEventDto {
+
+    private Long taskId;
+    private String status;
+    private String previousStatus;
+}
@@ -0,0 +1,22 @@
+package com.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTrendDto {
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private List<TaskTrendPointDto> points;
+}
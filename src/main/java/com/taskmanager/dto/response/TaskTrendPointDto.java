@@ -0,0 +1,23 @@
+package com.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTrendPointDto {
+
+    private LocalDate date;
+
+    private int created;
+
+    private int completed;
+
+    private int overdue;
+}
@@ -0,0 +1,50 @@
+package com.taskmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * A user's task activity for one day, compacted from {@link TaskEvent}s. {@code overdue} is a snapshot of
+ * open tasks past their due date, taken at the day's last rollup.
+ */
+@Entity
+@Table(name = "task_daily_rollups")
+@IdClass(TaskDailyRollup.Key.class)
+@Immutable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDailyRollup {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "rollup_date")
+    private LocalDate rollupDate;
+
+    private int created;
+
+    private int completed;
+
+    private int overdue;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long userId;
+
+        private LocalDate rollupDate;
+    }
+}
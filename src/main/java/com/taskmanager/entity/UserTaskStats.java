@@ -0,0 +1,91 @@
+package com.taskmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "user_task_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTaskStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    private long total;
+
+    private long todo;
+
+    @Column(name = "in_progress")
+    private long inProgress;
+
+    private long done;
+
+    private long high;
+
+    private long medium;
+
+    private long low;
+
+    @Column(name = "high_todo")
+    private long highTodo;
+
+    @Column(name = "high_in_progress")
+    private long highInProgress;
+
+    @Column(name = "high_done")
+    private long highDone;
+
+    @Column(name = "medium_todo")
+    private long mediumTodo;
+
+    @Column(name = "medium_in_progress")
+    private long mediumInProgress;
+
+    @Column(name = "medium_done")
+    private long mediumDone;
+
+    @Column(name = "low_todo")
+    private long lowTodo;
+
+    @Column(name = "low_in_progress")
+    private long lowInProgress;
+
+    @Column(name = "low_done")
+    private long lowDone;
+
+    private long overdue;
+
+    @Column(name = "due_today")
+    private long dueToday;
+
+    @Column(name = "due_soon")
+    private long dueSoon;
+
+    @Column(name = "on_track")
+    private long onTrack;
+
+    @Column(name = "no_date")
+    private long noDate;
+
+    /**
+     * Day the overdue/today/soon/on-track buckets were computed for. Buckets from an earlier day are
+     * stale and get rebuilt on the next read.
+     */
+    @Column(name = "buckets_date")
+    private LocalDate bucketsDate;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
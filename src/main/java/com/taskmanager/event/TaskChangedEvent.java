@@ -0,0 +1,16 @@
+package com.taskmanager.event;
+
+import com.taskmanager.dto.response.TaskResponseDto;
+
+/**
+ * Published by the task service for every write. {@code task} is the state after the change and is
+ * {@code null} for deletions; {@code previousStatus} is {@code null} for creations.
+ */
+public record TaskChangedEvent(Type type, Long userId, Long taskId, TaskResponseDto task, String previousStatus) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanager.event;
+
+import com.taskmanager.dto.response.TaskResponseDto;
+
+import java.util.List;
+
+/**
+ * Published by the import service once per committed batch instead of a {@link TaskChangedEvent} per row,
+ * so listeners can apply the batch in one step. {@code tasks} holds the created tasks in insert order.
+ */
+public record TasksImportedEvent(Long userId, List<TaskResponseDto> tasks) {
+}
@@ -0,0 +1,145 @@
+package com.taskmanager.importer;
+
+import com.taskmanager.dto.request.TaskCreateDto;
+import com.taskmanager.exception.BadRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV with a header row. Columns are matched by name, case-insensitively: {@code title} is
+ * required, {@code description}, {@code status}, {@code priority} and {@code dueDate} are optional and
+ * anything else (such as the {@code id} and {@code createdAt} columns of an export) is ignored. Quoted
+ * fields may contain separators, doubled quotes and line breaks.
+ */
+public class CsvTaskRecordReader implements TaskRecordReader {
+
+    private final Reader in;
+    private final int maxRecordChars;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    private long line;
+    private long recordLine;
+    private int recordChars;
+    private boolean truncated;
+
+    public CsvTaskRecordReader(Reader in, int maxRecordChars) throws IOException {
+        this.in = in;
+        this.maxRecordChars = maxRecordChars;
+        if (!readRecord() || truncated) {
+            throw new BadRequestException("CSV import needs a header row");
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            // spreadsheet exports often start with a byte order mark
+            columns.putIfAbsent(fields.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new BadRequestException("CSV header must include a title column");
+        }
+    }
+
+    @Override
+    public TaskRecord next() throws IOException {
+        while (readRecord()) {
+            if (truncated) {
+                return TaskRecord.failed(recordLine, "record exceeds " + maxRecordChars + " characters");
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            try {
+                return TaskRecord.parsed(recordLine, TaskCreateDto.builder()
+                        .title(column("title"))
+                        .description(column("description"))
+                        .status(column("status"))
+                        .priority(column("priority"))
+                        .dueDate(date(column("duedate")))
+                        .build());
+            } catch (DateTimeParseException e) {
+                return TaskRecord.failed(recordLine, "dueDate: " + e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private String column(String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate date(String value) {
+        return value == null ? null : LocalDate.parse(value.trim());
+    }
+
+    /** Reads the next record into {@link #fields}; returns {@code false} at the end of the input. */
+    private boolean readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return false;
+        }
+        fields.clear();
+        field.setLength(0);
+        recordLine = line + 1;
+        recordChars = 0;
+        truncated = false;
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int next = read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                append(c);
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                endField();
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                append(c);
+            }
+            c = read();
+        }
+        endField();
+        return true;
+    }
+
+    private void append(int c) {
+        if (recordChars++ < maxRecordChars) {
+            field.append((char) c);
+        } else {
+            truncated = true;
+        }
+    }
+
+    private void endField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    private int read() throws IOException {
+        int c = in.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+}
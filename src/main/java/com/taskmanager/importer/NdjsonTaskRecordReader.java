@@ -0,0 +1,57 @@
+package com.taskmanager.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskmanager.dto.request.TaskCreateDto;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/** One JSON object per line; blank lines are skipped and fields not on {@link TaskCreateDto} are ignored. */
+public class NdjsonTaskRecordReader implements TaskRecordReader {
+
+    private final Reader in;
+    private final ObjectReader reader;
+    private final int maxRecordChars;
+    private final StringBuilder buffer = new StringBuilder();
+    private long line;
+    private boolean eof;
+
+    public NdjsonTaskRecordReader(Reader in, ObjectMapper objectMapper, int maxRecordChars) {
+        this.in = in;
+        this.reader = objectMapper.readerFor(TaskCreateDto.class);
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    @Override
+    public TaskRecord next() throws IOException {
+        while (!eof) {
+            buffer.setLength(0);
+            line++;
+            boolean truncated = false;
+            int c;
+            while ((c = in.read()) != -1 && c != '\n') {
+                if (buffer.length() < maxRecordChars) {
+                    buffer.append((char) c);
+                } else {
+                    truncated = true;
+                }
+            }
+            eof = c == -1;
+            if (truncated) {
+                return TaskRecord.failed(line, "record exceeds " + maxRecordChars + " characters");
+            }
+            String text = buffer.toString();
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                return TaskRecord.parsed(line, reader.readValue(text));
+            } catch (JsonProcessingException e) {
+                return TaskRecord.failed(line, "invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+}
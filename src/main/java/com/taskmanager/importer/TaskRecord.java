@@ -0,0 +1,18 @@
+package com.taskmanager.importer;
+
+import com.taskmanager.dto.request.TaskCreateDto;
+
+/**
+ * One record read from an import body: the line it starts on and either the parsed task or the reason it
+ * could not be parsed.
+ */
+public record TaskRecord(long line, TaskCreateDto task, String error) {
+
+    public static TaskRecord parsed(long line, TaskCreateDto task) {
+        return new TaskRecord(line, task, null);
+    }
+
+    public static TaskRecord failed(long line, String error) {
+        return new TaskRecord(line, null, error);
+    }
+}
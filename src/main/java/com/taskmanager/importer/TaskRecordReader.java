@@ -0,0 +1,13 @@
+package com.taskmanager.importer;
+
+import java.io.IOException;
+
+/**
+ * Pulls task records one at a time from an import body, so only the record being parsed is held in
+ * memory. Records longer than the reader's limit are skipped and reported as failed.
+ */
+public interface TaskRecordReader {
+
+    /** The next record, or {@code null} at the end of the input. */
+    TaskRecord next() throws IOException;
+}
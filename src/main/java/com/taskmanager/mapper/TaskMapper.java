@@ -1,8 +1,11 @@
 package com.taskmanager.mapper;
 
+import com.taskmanager.dto.request.TaskBulkItemDto;
 import com.taskmanager.dto.request.TaskCreateDto;
+import com.taskmanager.dto.request.TaskUpdateDto;
 import com.taskmanager.dto.response.TaskResponseDto;
 import com.taskmanager.entity.Task;
+import com.taskmanager.repository.TaskRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -12,5 +15,13 @@ public interface TaskMapper {
     @Mapping(source = "user.id", target = "userId")
     TaskResponseDto toResponseDto(Task task);
 
+    TaskResponseDto toResponseDto(TaskRow row);
+
+    @Mapping(target = "status", defaultValue = "TODO")
+    @Mapping(target = "priority", defaultValue = "MEDIUM")
     Task toEntity(TaskCreateDto taskCreateDto);
+
+    TaskCreateDto toCreateDto(TaskBulkItemDto item);
+
+    TaskUpdateDto toUpdateDto(TaskBulkItemDto item);
 }
@@ -0,0 +1,18 @@
+package com.taskmanager.mapper;
+
+import com.taskmanager.dto.response.TaskStatsDto;
+import com.taskmanager.entity.UserTaskStats;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+@Mapper(componentModel = "spring")
+public interface TaskStatsMapper {
+
+    TaskStatsDto toDto(UserTaskStats stats);
+
+    @Mapping(target = "userId", ignore = true)
+    @Mapping(target = "bucketsDate", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void updateEntity(TaskStatsDto dto, @MappingTarget UserTaskStats stats);
+}
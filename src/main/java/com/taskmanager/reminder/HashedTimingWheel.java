@@ -0,0 +1,157 @@
+package com.taskmanager.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A hashed timing wheel of keyed timeouts. Time is cut into ticks of {@code tickMillis}; a timeout due
+ * in tick {@code n} goes into bucket {@code n % wheelSize}, a doubly linked list, so scheduling and
+ * cancelling are constant time however many timeouts are pending. {@link #advance} walks the buckets of
+ * the ticks that have passed and expires the entries whose tick has come; entries more than one
+ * revolution away stay in their bucket until a later pass. Scheduling a key that is already pending
+ * replaces it. Deadlines are wall-clock epoch milliseconds.
+ */
+public class HashedTimingWheel<K, V> {
+
+    private final long tickMillis;
+    private final Bucket<K, V>[] buckets;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>();
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /** Schedules {@code value} to expire at the first tick at or after {@code deadlineMillis}. */
+    public synchronized void schedule(K key, long deadlineMillis, V value) {
+        cancel(key);
+        add(key, deadlineMillis, value);
+    }
+
+    /** Like {@link #schedule} unless the key is already pending; returns whether it scheduled. */
+    public synchronized boolean scheduleIfAbsent(K key, long deadlineMillis, V value) {
+        if (entries.containsKey(key)) {
+            return false;
+        }
+        add(key, deadlineMillis, value);
+        return true;
+    }
+
+    private void add(K key, long deadlineMillis, V value) {
+        // a deadline already passed expires on the next tick
+        long tick = Math.max(-Math.floorDiv(-deadlineMillis, tickMillis), currentTick + 1);
+        Entry<K, V> entry = new Entry<>(key, value, tick);
+        buckets[bucketIndex(tick)].add(entry);
+        entries.put(key, entry);
+    }
+
+    /** Returns whether a timeout was pending for the key. */
+    public synchronized boolean cancel(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.bucket.remove(entry);
+        return true;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Moves the wheel up to {@code nowMillis} and returns the values that expired on the way. A gap of a
+     * full revolution or more, such as after a long pause, is covered by one pass over every bucket.
+     */
+    public synchronized List<V> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<V> expired = new ArrayList<>();
+        if (targetTick - currentTick >= buckets.length) {
+            for (Bucket<K, V> bucket : buckets) {
+                expire(bucket, targetTick, expired);
+            }
+            currentTick = targetTick;
+            return expired;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            expire(buckets[bucketIndex(currentTick)], currentTick, expired);
+        }
+        return expired;
+    }
+
+    private void expire(Bucket<K, V> bucket, long uptoTick, List<V> expired) {
+        Entry<K, V> entry = bucket.head;
+        while (entry != null) {
+            Entry<K, V> next = entry.next;
+            if (entry.tick <= uptoTick) {
+                bucket.remove(entry);
+                entries.remove(entry.key);
+                expired.add(entry.value);
+            }
+            entry = next;
+        }
+    }
+
+    private int bucketIndex(long tick) {
+        return (int) Math.floorMod(tick, (long) buckets.length);
+    }
+
+    private static final class Entry<K, V> {
+        final K key;
+        final V value;
+        final long tick;
+        Bucket<K, V> bucket;
+        Entry<K, V> prev;
+        Entry<K, V> next;
+
+        Entry(K key, V value, long tick) {
+            this.key = key;
+            this.value = value;
+            this.tick = tick;
+        }
+    }
+
+    private static final class Bucket<K, V> {
+        Entry<K, V> head;
+        Entry<K, V> tail;
+
+        void add(Entry<K, V> entry) {
+            entry.bucket = this;
+            entry.prev = tail;
+            if (tail == null) {
+                head = entry;
+            } else {
+                tail.next = entry;
+            }
+            tail = entry;
+        }
+
+        void remove(Entry<K, V> entry) {
+            if (entry.prev == null) {
+                head = entry.next;
+            } else {
+                entry.prev.next = entry.next;
+            }
+            if (entry.next == null) {
+                tail = entry.prev;
+            } else {
+                entry.next.prev = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+            entry.bucket = null;
+        }
+    }
+}
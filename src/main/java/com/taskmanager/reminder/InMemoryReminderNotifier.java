@@ -0,0 +1,52 @@
+package com.taskmanager.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The default sink: logs each reminder and keeps the last {@code reminders.memory.max-per-user} per user.
+ * Nothing is sent anywhere; plug in delivery by declaring another {@link ReminderNotifier} bean, and turn
+ * this one off with {@code reminders.memory.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "reminders.memory.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class InMemoryReminderNotifier implements ReminderNotifier {
+
+    private final Map<Long, Deque<TaskReminder>> recent = new ConcurrentHashMap<>();
+
+    @Value("${reminders.memory.max-per-user:20}")
+    private int maxPerUser;
+
+    @Override
+    public void notify(TaskReminder reminder) {
+        log.info("Reminder: task {} '{}' of user {} is due {}",
+                reminder.taskId(), reminder.title(), reminder.userId(), reminder.dueDate());
+        Deque<TaskReminder> reminders = recent.computeIfAbsent(reminder.userId(), id -> new ArrayDeque<>());
+        synchronized (reminders) {
+            reminders.addFirst(reminder);
+            if (reminders.size() > maxPerUser) {
+                reminders.removeLast();
+            }
+        }
+    }
+
+    /** The user's most recent reminders, newest first. */
+    public List<TaskReminder> recent(Long userId) {
+        Deque<TaskReminder> reminders = recent.get(userId);
+        if (reminders == null) {
+            return List.of();
+        }
+        synchronized (reminders) {
+            return List.copyOf(reminders);
+        }
+    }
+}
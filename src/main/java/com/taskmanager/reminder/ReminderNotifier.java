@@ -0,0 +1,11 @@
+package com.taskmanager.reminder;
+
+/**
+ * Delivers due-date reminders. Every notifier bean receives every reminder, on the single thread that
+ * drives the reminder wheel, so an implementation that does I/O should hand the work off rather than
+ * block later reminders.
+ */
+public interface ReminderNotifier {
+
+    void notify(TaskReminder reminder);
+}
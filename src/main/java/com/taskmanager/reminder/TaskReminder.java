@@ -0,0 +1,8 @@
+package com.taskmanager.reminder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/** A task whose due date is approaching, as handed to a {@link ReminderNotifier}. */
+public record TaskReminder(Long taskId, Long userId, String title, LocalDate dueDate, LocalDateTime remindAt) {
+}
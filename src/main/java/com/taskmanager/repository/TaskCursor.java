@@ -0,0 +1,49 @@
+package com.taskmanager.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page. Encoded as an opaque URL-safe token so clients
+ * cannot depend on its layout.
+ */
+public record TaskCursor(TaskSort sort, LocalDate dueDate, LocalDateTime createdAt, Long id) {
+
+    public static TaskCursor after(TaskSort sort, LocalDate dueDate, LocalDateTime createdAt, Long id) {
+        return sort == TaskSort.DUE_DATE
+                ? new TaskCursor(sort, dueDate, null, id)
+                : new TaskCursor(sort, null, createdAt, id);
+    }
+
+    public String encode() {
+        String key = sort == TaskSort.DUE_DATE
+                ? (dueDate == null ? "" : dueDate.toString())
+                : createdAt.toString();
+        String raw = sort.getParam() + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token, TaskSort expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            TaskSort sort = TaskSort.fromParam(parts[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("Cursor does not match sort " + expectedSort.getParam());
+            }
+            Long id = Long.valueOf(parts[2]);
+            if (sort == TaskSort.DUE_DATE) {
+                return new TaskCursor(sort, parts[1].isEmpty() ? null : LocalDate.parse(parts[1]), null, id);
+            }
+            return new TaskCursor(sort, null, LocalDateTime.parse(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.TaskDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TaskDailyRollupRepository extends JpaRepository<TaskDailyRollup, TaskDailyRollup.Key> {
+
+    @Query("select r from TaskDailyRollup r where r.userId = :userId and r.rollupDate >= :from order by r.rollupDate")
+    List<TaskDailyRollup> findFrom(@Param("userId") Long userId, @Param("from") LocalDate from);
+}
@@ -0,0 +1,68 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.TaskEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The event log and its compaction into {@code task_daily_rollups}. The rollup statements are native
+ * MERGEs so each pass is a handful of set-based statements however many events it covers.
+ */
+public interface TaskEventRepository extends JpaRepository<TaskEvent, Long> {
+
+    /** Locks the watermark row, so concurrent rollup passes queue up instead of double counting. */
+    @Query(value = "SELECT last_event_id FROM task_event_rollup_state WHERE id = 1 FOR UPDATE", nativeQuery = true)
+    long lockRollupWatermark();
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM task_events", nativeQuery = true)
+    long findMaxId();
+
+    @Modifying
+    @Query(value = """
+            MERGE INTO task_daily_rollups r
+            USING (SELECT user_id, CAST(occurred_at AS DATE) AS rollup_date,
+                          SUM(CASE WHEN event_type = 'CREATED' THEN 1 ELSE 0 END) AS created,
+                          SUM(CASE WHEN to_status = 'DONE' AND (from_status IS NULL OR from_status <> 'DONE')
+                                   THEN 1 ELSE 0 END) AS completed
+                   FROM task_events
+                   WHERE id > :afterId AND id <= :toId
+                   GROUP BY user_id, CAST(occurred_at AS DATE)) e
+            ON r.user_id = e.user_id AND r.rollup_date = e.rollup_date
+            WHEN MATCHED THEN UPDATE SET created = r.created + e.created, completed = r.completed + e.completed
+            WHEN NOT MATCHED THEN INSERT (user_id, rollup_date, created, completed, overdue)
+                 VALUES (e.user_id, e.rollup_date, e.created, e.completed, 0)
+            """, nativeQuery = true)
+    int rollUp(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    @Modifying
+    @Query(value = "UPDATE task_daily_rollups SET overdue = 0 WHERE rollup_date = :day AND overdue <> 0",
+            nativeQuery = true)
+    int clearOverdue(@Param("day") LocalDate day);
+
+    @Modifying
+    @Query(value = """
+            MERGE INTO task_daily_rollups r
+            USING (SELECT user_id, COUNT(*) AS overdue
+                   FROM tasks
+                   WHERE status <> 'DONE' AND due_date < :day
+                   GROUP BY user_id) o
+            ON r.user_id = o.user_id AND r.rollup_date = :day
+            WHEN MATCHED THEN UPDATE SET overdue = o.overdue
+            WHEN NOT MATCHED THEN INSERT (user_id, rollup_date, created, completed, overdue)
+                 VALUES (o.user_id, :day, 0, 0, o.overdue)
+            """, nativeQuery = true)
+    int snapshotOverdue(@Param("day") LocalDate day);
+
+    @Modifying
+    @Query(value = "UPDATE task_event_rollup_state SET last_event_id = :lastEventId WHERE id = 1", nativeQuery = true)
+    void advanceRollupWatermark(@Param("lastEventId") long lastEventId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_events WHERE id <= :rolledUpId AND occurred_at < :cutoff", nativeQuery = true)
+    int pruneRolledUp(@Param("rolledUpId") long rolledUpId, @Param("cutoff") LocalDateTime cutoff);
+}
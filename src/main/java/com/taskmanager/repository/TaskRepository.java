@@ -1,14 +1,94 @@
 package com.taskmanager.repository;
 
 import com.taskmanager.entity.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
-    List<Task> findAllByUserId(Long userId);
+    @Query("select t from Task t where t.user.id = :userId")
+    List<Task> findAllByUserId(@Param("userId") Long userId);
 
-    Optional<Task> findByIdAndUserId(Long id, Long userId);
+    @Query(TaskRow.SELECT + " from Task t where t.user.id = :userId")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<TaskRow> findRowsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Loads by primary key so the {@code tasks} cache region can answer, then checks ownership on the
+     * foreign key without initializing the user.
+     */
+    default Optional<Task> findByIdAndUserId(Long id, Long userId) {
+        return findById(id).filter(task -> task.getUser().getId().equals(userId));
+    }
+
+    /**
+     * Forward-only cursor over all of a user's tasks, for exports. Must be consumed and closed inside a
+     * transaction. Rows are loaded read-only and bypass the second-level cache so a large export neither
+     * keeps snapshots nor evicts the cached working set.
+     */
+    @Query("select t from Task t where t.user.id = :userId order by t.id")
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = AvailableHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<Task> streamAllByUserId(@Param("userId") Long userId);
+
+    @Query("select t from Task t where t.id in :ids and t.user.id = :userId")
+    List<Task> findAllByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Query(TaskRow.SELECT + " from Task t where t.id = :id and t.user.id = :userId")
+    Optional<TaskRow> findRowByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Sets the status and bumps the version in one statement, only while the task is the user's and still
+     * at {@code version}; returns the number of rows changed. A bulk update evicts the {@code tasks} cache
+     * region, so general edits stay on the entity.
+     */
+    @Modifying
+    @Query("""
+            update Task t set t.status = :status, t.version = t.version + 1
+            where t.id = :id and t.user.id = :userId and t.version = :version
+            """)
+    int updateStatus(@Param("id") Long id, @Param("userId") Long userId, @Param("version") Long version,
+                     @Param("status") String status);
+
+    @Query(TaskRow.SELECT + " from Task t where t.id in :ids and t.user.id = :userId")
+    List<TaskRow> findRowsByIdInAndUserId(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    @Query(TaskRow.SELECT + " from Task t where t.id in :ids")
+    List<TaskRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** Unfinished tasks of every user due within the range, for loading reminders; uses {@code idx_tasks_due}. */
+    @Query(TaskRow.SELECT + " from Task t where t.dueDate between :from and :to and t.status <> 'DONE'")
+    List<TaskRow> findOpenRowsDueBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("select t.id as id, t.title as title, t.description as description from Task t where t.user.id = :userId")
+    List<TaskSearchRow> findSearchRowsByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            select t.status as status, t.priority as priority, count(t) as total,
+                   sum(case when t.dueDate < :today then 1 else 0 end) as overdue,
+                   sum(case when t.dueDate = :today then 1 else 0 end) as dueToday,
+                   sum(case when t.dueDate > :today and t.dueDate <= :soonUntil then 1 else 0 end) as dueSoon,
+                   sum(case when t.dueDate > :soonUntil then 1 else 0 end) as onTrack,
+                   sum(case when t.dueDate is null then 1 else 0 end) as noDate
+            from Task t
+            where t.user.id = :userId
+            group by t.status, t.priority
+            """)
+    List<TaskStatsRow> aggregateStatsByUserId(@Param("userId") Long userId,
+                                              @Param("today") LocalDate today,
+                                              @Param("soonUntil") LocalDate soonUntil);
 }
@@ -0,0 +1,10 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.request.TaskFilterDto;
+
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+
+    List<TaskRow> findPageByUserId(Long userId, TaskFilterDto filter, TaskSort sort, TaskCursor after, int limit);
+}
@@ -0,0 +1,17 @@
+package com.taskmanager.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a task response read straight from the {@code tasks} row, owner included as the raw
+ * {@code user_id}. Selecting into this record skips entity hydration, the persistence context and dirty
+ * checking, and never touches the lazy {@code User}.
+ */
+public record TaskRow(Long id, String title, String description, String status, String priority,
+                      LocalDate dueDate, LocalDateTime createdAt, Long userId, Long version) {
+
+    /** JPQL select clause for a {@code Task t} query. */
+    public static final String SELECT = "select new com.taskmanager.repository.TaskRow("
+            + "t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.createdAt, t.user.id, t.version)";
+}
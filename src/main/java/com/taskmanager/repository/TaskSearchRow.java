@@ -0,0 +1,10 @@
+package com.taskmanager.repository;
+
+public interface TaskSearchRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+}
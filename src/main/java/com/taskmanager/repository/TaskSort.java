@@ -0,0 +1,29 @@
+package com.taskmanager.repository;
+
+public enum TaskSort {
+
+    CREATED_AT("createdAt"),
+    DUE_DATE("dueDate");
+
+    private final String param;
+
+    TaskSort(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public static TaskSort fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return CREATED_AT;
+        }
+        for (TaskSort sort : values()) {
+            if (sort.param.equals(param)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort: " + param);
+    }
+}
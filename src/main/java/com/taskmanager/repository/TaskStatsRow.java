@@ -0,0 +1,20 @@
+package com.taskmanager.repository;
+
+public interface TaskStatsRow {
+
+    String getStatus();
+
+    String getPriority();
+
+    long getTotal();
+
+    long getOverdue();
+
+    long getDueToday();
+
+    long getDueSoon();
+
+    long getOnTrack();
+
+    long getNoDate();
+}
@@ -0,0 +1,10 @@
+package com.taskmanager.repository;
+
+public interface UserAccountRow {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+}
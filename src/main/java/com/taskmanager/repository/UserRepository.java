@@ -1,17 +1,33 @@
 package com.taskmanager.repository;
 
 import com.taskmanager.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    Optional<User> findByUsername(String username);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     Optional<User> findByEmail(String email);
 
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    /**
+     * Always asks the database: the account checks that use it must see deletions made outside Hibernate,
+     * which the {@code users-by-username} natural-id region would hide until it expires.
+     */
+    @Query("select u.id from User u where u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    @Query("select u.id from User u")
+    List<Long> findAllIds();
+
+    /** One keyset page of accounts in id order, read by a primary-key range instead of a full scan. */
+    @Query("select u.id as id, u.username as username, u.email as email from User u where u.id > :afterId order by u.id")
+    List<UserAccountRow> findAccountRowsAfter(@Param("afterId") Long afterId, Limit limit);
 }
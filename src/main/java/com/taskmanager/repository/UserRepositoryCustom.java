@@ -0,0 +1,10 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,17 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.UserTaskStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface UserTaskStatsRepository extends JpaRepository<UserTaskStats, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserTaskStats s where s.userId = :userId")
+    Optional<UserTaskStats> findForUpdate(@Param("userId") Long userId);
+}
@@ -0,0 +1,68 @@
+package com.taskmanager.repository.impl;
+
+import com.taskmanager.dto.request.TaskFilterDto;
+import com.taskmanager.repository.TaskCursor;
+import com.taskmanager.repository.TaskRepositoryCustom;
+import com.taskmanager.repository.TaskRow;
+import com.taskmanager.repository.TaskSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskRow> findPageByUserId(Long userId, TaskFilterDto filter, TaskSort sort, TaskCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(TaskRow.SELECT + " from Task t where t.user.id = :userId");
+        Map<String, Object> params = new HashMap<>();
+        params.put("userId", userId);
+
+        if (filter.getStatus() != null) {
+            jpql.append(" and t.status = :status");
+            params.put("status", filter.getStatus());
+        }
+        if (filter.getPriority() != null) {
+            jpql.append(" and t.priority = :priority");
+            params.put("priority", filter.getPriority());
+        }
+        if (filter.getDueFrom() != null) {
+            jpql.append(" and t.dueDate >= :dueFrom");
+            params.put("dueFrom", filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            jpql.append(" and t.dueDate <= :dueTo");
+            params.put("dueTo", filter.getDueTo());
+        }
+
+        if (sort == TaskSort.DUE_DATE) {
+            // Tasks without a due date sort last, so the keyset has to step over the null boundary explicitly.
+            if (after != null && after.dueDate() != null) {
+                jpql.append(" and (t.dueDate > :afterDue or (t.dueDate = :afterDue and t.id > :afterId) or t.dueDate is null)");
+                params.put("afterDue", after.dueDate());
+                params.put("afterId", after.id());
+            } else if (after != null) {
+                jpql.append(" and t.dueDate is null and t.id > :afterId");
+                params.put("afterId", after.id());
+            }
+            jpql.append(" order by t.dueDate asc nulls last, t.id asc");
+        } else {
+            if (after != null) {
+                jpql.append(" and (t.createdAt > :afterCreated or (t.createdAt = :afterCreated and t.id > :afterId))");
+                params.put("afterCreated", after.createdAt());
+                params.put("afterId", after.id());
+            }
+            jpql.append(" order by t.createdAt asc, t.id asc");
+        }
+
+        TypedQuery<TaskRow> query = entityManager.createQuery(jpql.toString(), TaskRow.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.repository.impl;
+
+import com.taskmanager.entity.User;
+import com.taskmanager.repository.UserRepositoryCustom;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * Username lookups go through Hibernate's natural-id API so they are answered from the
+ * {@code users-by-username} and {@code users} cache regions instead of a query per call. Account
+ * existence checks use {@code UserRepository.findIdByUsername}, which always queries.
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskmanager.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into lower-case terms on anything that is not a letter or digit, so Cyrillic and
+ * accented titles tokenize the same way as ASCII ones.
+ */
+public final class TaskTokenizer {
+
+    public static final int MIN_TERM_LENGTH = 2;
+    public static final int MAX_TERM_LENGTH = 40;
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TaskTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String term : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (term.length() >= MIN_TERM_LENGTH) {
+                terms.add(term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,267 @@
+package com.taskmanager.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Inverted index over one user's task titles and descriptions.
+ * <p>
+ * Every query term must match (AND). A query term matches index terms that start with it, so
+ * "rep" finds "report" and "repository"; an exact term scores twice as much as a prefix expansion.
+ * Scores are idf-weighted term frequencies with title occurrences counted {@value #TITLE_WEIGHT}
+ * times. Terms are kept sorted so prefix expansion is a range scan of the dictionary.
+ * <p>
+ * Writes that arrive while the index is still being loaded from the database win over the rows the
+ * load reads, because they describe a commit at least as recent as the load's snapshot.
+ */
+public class UserTaskIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final double PREFIX_FACTOR = 0.5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock loadLock = new ReentrantLock();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+
+    private Set<Long> touchedWhileLoading = new HashSet<>();
+    private volatile boolean loaded;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(Long taskId, String title, String description) {
+        Map<String, Integer> terms = terms(title, description);
+        lock.writeLock().lock();
+        try {
+            markTouched(taskId);
+            removeDocument(taskId);
+            addDocument(taskId, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            markTouched(taskId);
+            removeDocument(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Runs {@code loader} and marks the index loaded unless that already happened. Concurrent first
+     * searches for this user wait for a single load; other users' indexes are not held up.
+     */
+    public void loadOnce(Consumer<UserTaskIndex> loader) {
+        if (loaded) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (!loaded) {
+                loader.accept(this);
+                markLoaded();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Adds a row read by the initial load unless a live write for the same task got there first.
+     */
+    public void load(Long taskId, String title, String description) {
+        Map<String, Integer> terms = terms(title, description);
+        lock.writeLock().lock();
+        try {
+            if (!touchedWhileLoading.contains(taskId) && !documents.containsKey(taskId)) {
+                addDocument(taskId, terms);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markLoaded() {
+        lock.writeLock().lock();
+        try {
+            loaded = true;
+            touchedWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of the best matching tasks, best first; ties go to the newer task.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(TaskTokenizer.tokenize(query)));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (queryTerms.size() > MAX_QUERY_TERMS) {
+            queryTerms = queryTerms.subList(0, MAX_QUERY_TERMS);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<List<Map.Entry<String, Map<Long, Integer>>>> expansions = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                List<Map.Entry<String, Map<Long, Integer>>> matches = expand(term);
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+                expansions.add(matches);
+            }
+            if (expansions.size() == 1 && expansions.get(0).size() == 1) {
+                // one term, one posting list: the score is frequency times a constant, so rank directly
+                return top(expansions.get(0).get(0).getValue(), limit);
+            }
+            // start from the rarest term so every later step only narrows a small candidate set
+            expansions.sort(Comparator.comparingInt(UserTaskIndex::postingCount));
+
+            Map<Long, Double> scores = score(queryTerms, expansions.get(0));
+            for (int i = 1; i < expansions.size() && !scores.isEmpty(); i++) {
+                scores = narrow(scores, queryTerms, expansions.get(i));
+            }
+            return top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Map.Entry<String, Map<Long, Integer>>> expand(String term) {
+        List<Map.Entry<String, Map<Long, Integer>>> matches = new ArrayList<>();
+        for (Map.Entry<String, Map<Long, Integer>> entry : postings.tailMap(term, true).entrySet()) {
+            if (!entry.getKey().startsWith(term) || matches.size() == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            matches.add(entry);
+        }
+        return matches;
+    }
+
+    private Map<Long, Double> score(List<String> queryTerms, List<Map.Entry<String, Map<Long, Integer>>> matches) {
+        Map<Long, Double> scores = new HashMap<>();
+        for (Map.Entry<String, Map<Long, Integer>> match : matches) {
+            double weight = weight(queryTerms, match);
+            match.getValue().forEach((taskId, frequency) -> scores.merge(taskId, frequency * weight, Math::max));
+        }
+        return scores;
+    }
+
+    private Map<Long, Double> narrow(Map<Long, Double> candidates, List<String> queryTerms,
+                                     List<Map.Entry<String, Map<Long, Integer>>> matches) {
+        Map<Long, Double> narrowed = new HashMap<>();
+        for (Map.Entry<Long, Double> candidate : candidates.entrySet()) {
+            double best = 0;
+            for (Map.Entry<String, Map<Long, Integer>> match : matches) {
+                Integer frequency = match.getValue().get(candidate.getKey());
+                if (frequency != null) {
+                    best = Math.max(best, frequency * weight(queryTerms, match));
+                }
+            }
+            if (best > 0) {
+                narrowed.put(candidate.getKey(), candidate.getValue() + best);
+            }
+        }
+        return narrowed;
+    }
+
+    private double weight(List<String> queryTerms, Map.Entry<String, Map<Long, Integer>> match) {
+        double idf = Math.log(1 + (double) documents.size() / match.getValue().size());
+        return queryTerms.contains(match.getKey()) ? idf : idf * PREFIX_FACTOR;
+    }
+
+    private static <S extends Comparable<S>> List<Long> top(Map<Long, S> scores, int limit) {
+        Comparator<Map.Entry<Long, S>> order = Map.Entry.<Long, S>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, S>> best = new PriorityQueue<>(limit + 1, order);
+        for (Map.Entry<Long, S> entry : scores.entrySet()) {
+            if (best.size() < limit) {
+                best.offer(entry);
+            } else if (order.compare(entry, best.peek()) > 0) {
+                best.poll();
+                best.offer(entry);
+            }
+        }
+        List<Long> ids = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ids.add(best.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    private static int postingCount(List<Map.Entry<String, Map<Long, Integer>>> matches) {
+        int count = 0;
+        for (Map.Entry<String, Map<Long, Integer>> match : matches) {
+            count += match.getValue().size();
+        }
+        return count;
+    }
+
+    private static Map<String, Integer> terms(String title, String description) {
+        Map<String, Integer> terms = new HashMap<>();
+        TaskTokenizer.tokenize(title).forEach(term -> terms.merge(term, TITLE_WEIGHT, Integer::sum));
+        TaskTokenizer.tokenize(description).forEach(term -> terms.merge(term, 1, Integer::sum));
+        return terms;
+    }
+
+    private void markTouched(Long taskId) {
+        if (touchedWhileLoading != null) {
+            touchedWhileLoading.add(taskId);
+        }
+    }
+
+    private void addDocument(Long taskId, Map<String, Integer> terms) {
+        documents.put(taskId, terms);
+        terms.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(taskId, frequency));
+    }
+
+    private void removeDocument(Long taskId) {
+        Map<String, Integer> terms = documents.remove(taskId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> docs = postings.get(term);
+            docs.remove(taskId);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+}
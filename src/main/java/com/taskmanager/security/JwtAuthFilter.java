@@ -1,20 +1,27 @@
 package com.taskmanager.security;
 
+import com.taskmanager.entity.User;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +30,24 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserAccountChecker userAccountChecker;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.strict-user-check.enabled:false}")
+    private boolean strictUserCheck;
+
+    private Counter authenticated;
+    private Counter legacyLookups;
+    private Counter rejected;
+    private Counter failed;
+
+    @PostConstruct
+    void registerMeters() {
+        authenticated = outcome("authenticated");
+        rejected = outcome("rejected");
+        failed = outcome("failed");
+        legacyLookups = Counter.builder("taskmanager.auth.jwt.legacy.lookups").register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -38,22 +63,46 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            String username = jwtTokenProvider.extractUsername(token);
+            Claims claims = jwtTokenProvider.parseClaims(token);
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (claims.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                JwtPrincipal principal = toPrincipal(claims);
 
-                if (jwtTokenProvider.isTokenValid(token, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                if (principal != null && (!strictUserCheck
+                        || userAccountChecker.isActive(principal.username(), principal.id()))) {
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                            principal, null, List.of(new SimpleGrantedAuthority(principal.role())));
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    authenticated.increment();
+                } else {
+                    rejected.increment();
                 }
             }
         } catch (Exception e) {
+            failed.increment();
             log.error("JWT authentication failed: {}", e.getMessage());
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private JwtPrincipal toPrincipal(Claims claims) {
+        Long userId = claims.get(JwtTokenProvider.USER_ID_CLAIM, Long.class);
+        String role = claims.get(JwtTokenProvider.ROLE_CLAIM, String.class);
+        if (userId != null && role != null) {
+            return new JwtPrincipal(userId, claims.getSubject(), role);
+        }
+
+        // Tokens issued before the id and role claims existed still need a users lookup.
+        legacyLookups.increment();
+        User user = (User) userDetailsService.loadUserByUsername(claims.getSubject());
+        return new JwtPrincipal(user.getId(), user.getUsername(), user.getRole());
+    }
+
+    private Counter outcome(String outcome) {
+        return Counter.builder("taskmanager.auth.jwt.requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
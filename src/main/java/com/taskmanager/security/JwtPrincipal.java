@@ -0,0 +1,14 @@
+package com.taskmanager.security;
+
+import java.security.Principal;
+
+/**
+ * Authenticated API caller, built from the token claims without loading the user.
+ */
+public record JwtPrincipal(Long id, String username, String role) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -1,8 +1,16 @@
 package com.taskmanager.security;
 
+import com.taskmanager.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,60 +18,160 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private long expiration;
 
-    public String generateToken(UserDetails userDetails) {
-        return Jwts.builder()
-                .subject(userDetails.getUsername())
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
+
+    private final MeterRegistry meterRegistry;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    private Timer signTimer;
+    private Timer verifyTimer;
+    private Timer verifyFailedTimer;
+    private Counter cacheHits;
+    private Counter cacheMisses;
+
+    /**
+     * Claims of tokens whose signature has already been checked, keyed by SHA-256 of the token so raw
+     * tokens are not kept in memory. Entries are dropped once the token itself expires.
+     */
+    private final Map<String, VerifiedClaims> verifiedClaims = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+
+        signTimer = Timer.builder("taskmanager.jwt.sign").register(meterRegistry);
+        verifyTimer = Timer.builder("taskmanager.jwt.verify").tag("outcome", "valid").register(meterRegistry);
+        verifyFailedTimer = Timer.builder("taskmanager.jwt.verify").tag("outcome", "invalid").register(meterRegistry);
+        cacheHits = Counter.builder("taskmanager.jwt.claims.cache").tag("result", "hit").register(meterRegistry);
+        cacheMisses = Counter.builder("taskmanager.jwt.claims.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("taskmanager.jwt.claims.cache.size", verifiedClaims, Map::size).register(meterRegistry);
+    }
+
+    public String generateToken(User user) {
+        return signTimer.record(() -> Jwts.builder()
+                .subject(user.getUsername())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(ROLE_CLAIM, user.getRole())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
-                .compact();
+                .signWith(signingKey)
+                .compact());
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseClaims(token).getSubject();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        Claims claims = parseClaims(token);
+        return claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims);
     }
 
     public boolean isTokenNotExpired(String token) {
         try {
-            return !isTokenExpired(token);
+            return !isExpired(parseClaims(token));
         } catch (Exception e) {
             log.debug("Token validation failed: {}", e.getMessage());
             return false;
         }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractClaim(token, Claims::getExpiration).before(new Date());
+    /**
+     * Verifies the token once and returns all of its claims. Repeated calls with the same token are
+     * served from the verified-claims cache until the token expires.
+     */
+    public Claims parseClaims(String token) {
+        if (claimsCacheMaxSize <= 0) {
+            return verify(token);
+        }
+
+        String key = hash(token);
+        long now = System.currentTimeMillis();
+        VerifiedClaims cached = verifiedClaims.get(key);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                cacheHits.increment();
+                return cached.claims();
+            }
+            verifiedClaims.remove(key, cached);
+        }
+
+        cacheMisses.increment();
+        Claims claims = verify(token);
+        Date exp = claims.getExpiration();
+        if (exp != null) {
+            if (verifiedClaims.size() >= claimsCacheMaxSize) {
+                evict(now);
+            }
+            verifiedClaims.put(key, new VerifiedClaims(claims, exp.getTime()));
+        }
+        return claims;
+    }
+
+    private Claims verify(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            sample.stop(verifyTimer);
+            return claims;
+        } catch (RuntimeException e) {
+            sample.stop(verifyFailedTimer);
+            throw e;
+        }
+    }
+
+    private boolean isExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
+    }
+
+    private void evict(long now) {
+        verifiedClaims.values().removeIf(entry -> entry.expiresAt() <= now);
+        // Trim a tenth at a time so a cache full of live tokens is not rescanned on every insert.
+        int target = claimsCacheMaxSize - Math.max(1, claimsCacheMaxSize / 10);
+        Iterator<String> keys = verifiedClaims.keySet().iterator();
+        while (verifiedClaims.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claimsResolver.apply(claims);
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    private record VerifiedClaims(Claims claims, long expiresAt) {
     }
 }
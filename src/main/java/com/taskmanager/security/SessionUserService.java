@@ -0,0 +1,79 @@
+package com.taskmanager.security;
+
+import com.taskmanager.dto.response.AuthResponseDto;
+import com.taskmanager.repository.UserRepository;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Keeps the signed-in user's id in the UI session so requests only need a token check, not a users
+ * lookup. The id is re-checked against the database once per revalidate interval; a user deleted in
+ * the meantime loses the session at the next re-check, and so does one whose username now belongs to
+ * a different account.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionUserService {
+
+    public static final String TOKEN = "jwt_token";
+    public static final String USERNAME = "username";
+    public static final String USER_ID = "user_id";
+    public static final String VERIFIED_AT = "user_verified_at";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+
+    @Value("${session.user-revalidate-interval:5m}")
+    private Duration revalidateInterval;
+
+    public void signIn(HttpSession session, AuthResponseDto auth) {
+        session.setAttribute(TOKEN, auth.getToken());
+        session.setAttribute(USERNAME, auth.getUsername());
+        session.setAttribute(USER_ID, auth.getUserId());
+        session.setAttribute(VERIFIED_AT, System.currentTimeMillis());
+    }
+
+    public Long resolveUserId(HttpSession session) {
+        String token = (String) session.getAttribute(TOKEN);
+        if (token == null) return null;
+        if (!jwtTokenProvider.isTokenNotExpired(token)) {
+            clear(session);
+            return null;
+        }
+
+        Long userId = (Long) session.getAttribute(USER_ID);
+        Long verifiedAt = (Long) session.getAttribute(VERIFIED_AT);
+        long now = System.currentTimeMillis();
+        if (userId != null && verifiedAt != null && now - verifiedAt < revalidateInterval.toMillis()) {
+            return userId;
+        }
+
+        try {
+            Optional<Long> current = userRepository.findIdByUsername(jwtTokenProvider.extractUsername(token));
+            if (current.isEmpty() || !current.get().equals(userId)) {
+                clear(session);
+                return null;
+            }
+            session.setAttribute(VERIFIED_AT, now);
+            return userId;
+        } catch (Exception e) {
+            log.error("Failed to resolve user from session: {}", e.getMessage());
+            clear(session);
+            return null;
+        }
+    }
+
+    private void clear(HttpSession session) {
+        session.removeAttribute(TOKEN);
+        session.removeAttribute(USERNAME);
+        session.removeAttribute(USER_ID);
+        session.removeAttribute(VERIFIED_AT);
+    }
+}
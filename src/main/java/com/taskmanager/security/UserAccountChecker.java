@@ -0,0 +1,49 @@
+package com.taskmanager.security;
+
+import com.taskmanager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Confirms that the account behind a token still exists, for {@code jwt.strict-user-check}. Answers
+ * are cached for a short TTL so strict mode costs at most one users lookup per account per TTL.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAccountChecker {
+
+    private final UserRepository userRepository;
+
+    @Value("${jwt.strict-user-check.cache-ttl:30s}")
+    private Duration cacheTtl;
+
+    @Value("${jwt.strict-user-check.cache-max-size:10000}")
+    private int cacheMaxSize;
+
+    private final Map<String, CachedAccount> accounts = new ConcurrentHashMap<>();
+
+    public boolean isActive(String username, Long userId) {
+        long now = System.currentTimeMillis();
+        CachedAccount cached = accounts.get(username);
+        if (cached == null || cached.expiresAt() <= now) {
+            Optional<Long> id = userRepository.findIdByUsername(username);
+            if (accounts.size() >= cacheMaxSize) {
+                accounts.values().removeIf(entry -> entry.expiresAt() <= now);
+            }
+            if (accounts.size() < cacheMaxSize) {
+                accounts.put(username, new CachedAccount(id.orElse(null), now + cacheTtl.toMillis()));
+            }
+            return id.isPresent() && id.get().equals(userId);
+        }
+        return cached.userId() != null && cached.userId().equals(userId);
+    }
+
+    private record CachedAccount(Long userId, long expiresAt) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.response.AvailabilityResponseDto;
+
+/**
+ * Answers whether a username or email is already registered without a database round trip in the common
+ * case. The answer is advisory: the unique constraints on {@code users} stay the authority at insert time.
+ */
+public interface AccountAvailabilityService {
+
+    AvailabilityResponseDto check(String username, String email);
+
+    boolean isUsernameTaken(String username);
+
+    boolean isEmailTaken(String email);
+
+    void recordTaken(String username, String email);
+
+    void rebuild();
+}
@@ -9,5 +9,11 @@ public interface AuthService {
 
     UserResponseDto register(RegisterRequestDto request);
 
+    /**
+     * Registers the user and issues their token straight away. The password was only just hashed, so
+     * there is nothing to verify and no second hash to pay for as a login would.
+     */
+    AuthResponseDto registerAndIssueToken(RegisterRequestDto request);
+
     AuthResponseDto login(LoginRequestDto request);
 }
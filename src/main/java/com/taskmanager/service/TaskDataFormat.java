@@ -0,0 +1,48 @@
+package com.taskmanager.service;
+
+import com.taskmanager.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+public enum TaskDataFormat {
+
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String param;
+    private final MediaType mediaType;
+
+    TaskDataFormat(String param, MediaType mediaType) {
+        this.param = param;
+        this.mediaType = mediaType;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static TaskDataFormat fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return NDJSON;
+        }
+        for (TaskDataFormat format : values()) {
+            if (format.param.equalsIgnoreCase(param)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported format: " + param);
+    }
+
+    /** Picks the format of an uploaded body from its content type; anything but CSV is read as NDJSON. */
+    public static TaskDataFormat fromContentType(String contentType) {
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/csv")) {
+            return CSV;
+        }
+        return NDJSON;
+    }
+}
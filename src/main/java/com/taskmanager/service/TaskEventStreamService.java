@@ -0,0 +1,8 @@
+package com.taskmanager.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface TaskEventStreamService {
+
+    SseEmitter subscribe(Long userId, String lastEventId);
+}
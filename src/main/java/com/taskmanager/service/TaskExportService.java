@@ -0,0 +1,9 @@
+package com.taskmanager.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TaskExportService {
+
+    long export(Long userId, TaskDataFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,15 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.response.TaskTrendDto;
+
+public interface TaskHistoryService {
+
+    /** Daily created, completed and overdue counts for the last {@code days} days, today included. */
+    TaskTrendDto getTrend(Long userId, int days);
+
+    /** Writes buffered events to {@code task_events}; returns how many were written. */
+    int flush();
+
+    /** Folds events not yet counted into the daily rollups; returns how many user-day rows changed. */
+    long rollUp();
+}
@@ -0,0 +1,11 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.response.TaskImportReportDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface TaskImportService {
+
+    TaskImportReportDto importTasks(Long userId, TaskDataFormat format, InputStream in) throws IOException;
+}
@@ -0,0 +1,13 @@
+package com.taskmanager.service;
+
+public interface TaskReminderService {
+
+    /**
+     * Loads the reminders falling between the end of the loaded window and {@code reminders.window} from
+     * now into the wheel; returns how many were scheduled.
+     */
+    int loadNextWindow();
+
+    /** Reminders waiting in the wheel. */
+    int pending();
+}
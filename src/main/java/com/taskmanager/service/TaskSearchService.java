@@ -0,0 +1,12 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.response.TaskResponseDto;
+
+import java.util.List;
+
+public interface TaskSearchService {
+
+    List<TaskResponseDto> search(String query, Integer limit, Long userId);
+
+    void rebuild();
+}
@@ -1,7 +1,11 @@
 package com.taskmanager.service;
 
+import com.taskmanager.dto.request.TaskBulkRequestDto;
 import com.taskmanager.dto.request.TaskCreateDto;
+import com.taskmanager.dto.request.TaskFilterDto;
 import com.taskmanager.dto.request.TaskUpdateDto;
+import com.taskmanager.dto.response.TaskBulkResponseDto;
+import com.taskmanager.dto.response.TaskPageResponseDto;
 import com.taskmanager.dto.response.TaskResponseDto;
 
 import java.util.List;
@@ -12,9 +16,16 @@ public interface TaskService {
 
     List<TaskResponseDto> getAllTasks(Long userId);
 
+    TaskPageResponseDto getTasks(TaskFilterDto filter, Long userId);
+
     TaskResponseDto getTaskById(Long taskId, Long userId);
 
     TaskResponseDto updateTask(Long taskId, TaskUpdateDto request, Long userId);
 
+    /** Changes only the status, as a kanban move or "done" does, with a single versioned update. */
+    TaskResponseDto moveTask(Long taskId, String status, Long version, Long userId);
+
     void deleteTask(Long taskId, Long userId);
+
+    TaskBulkResponseDto applyBulk(TaskBulkRequestDto request, Long userId);
 }
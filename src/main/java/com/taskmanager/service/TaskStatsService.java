@@ -0,0 +1,24 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.response.TaskStatsDto;
+import com.taskmanager.entity.Task;
+
+import java.util.List;
+
+public interface TaskStatsService {
+
+    TaskStatsDto getStats(Long userId);
+
+    /** Inserts empty counters for a new user; must run in the transaction that inserts the user. */
+    void initialize(Long userId);
+
+    void recordCreated(Task task);
+
+    void recordUpdated(Task before, Task after);
+
+    void recordDeleted(Task task);
+
+    void recordChanges(Long userId, List<Task> removed, List<Task> added);
+
+    int reconcile();
+}
@@ -0,0 +1,8 @@
+package com.taskmanager.service;
+
+public interface TaskVersionService {
+
+    long currentVersion(Long userId);
+
+    String etag(Long userId);
+}
@@ -0,0 +1,176 @@
+package com.taskmanager.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.account.BloomFilter;
+import com.taskmanager.dto.response.AvailabilityResponseDto;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.repository.UserAccountRow;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.AccountAvailabilityService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Keeps a Bloom filter of every registered username and email, seeded from {@code users} at startup and
+ * fed by each registration, so a name that was never taken is answered from memory. Names the filter
+ * reports as possibly taken are confirmed in a bounded cache of taken names, and only a miss there (a
+ * false positive, or a name evicted from the cache) reaches the database. Until the first build finishes
+ * every check goes to the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountAvailabilityServiceImpl implements AccountAvailabilityService {
+
+    private static final String USERNAME_PREFIX = "u:";
+    private static final String EMAIL_PREFIX = "e:";
+    private static final int REBUILD_PAGE = 1000;
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${availability.expected-accounts:100000}")
+    private int expectedAccounts;
+
+    @Value("${availability.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${availability.taken-cache.max-size:50000}")
+    private long takenCacheMaxSize;
+
+    private volatile BloomFilter usernames;
+    private volatile BloomFilter emails;
+    private Cache<String, Boolean> taken;
+
+    private Counter bloomAnswers;
+    private Counter cacheAnswers;
+    private Counter databaseAnswers;
+
+    @PostConstruct
+    void init() {
+        taken = Caffeine.newBuilder().maximumSize(takenCacheMaxSize).build();
+        bloomAnswers = counter("bloom");
+        cacheAnswers = counter("cache");
+        databaseAnswers = counter("database");
+    }
+
+    @Override
+    public AvailabilityResponseDto check(String username, String email) {
+        if (isBlank(username) && isBlank(email)) {
+            throw new BadRequestException("username or email is required");
+        }
+        AvailabilityResponseDto response = new AvailabilityResponseDto();
+        if (!isBlank(username)) {
+            response.setUsername(username);
+            response.setUsernameAvailable(!isUsernameTaken(username));
+        }
+        if (!isBlank(email)) {
+            response.setEmail(email);
+            response.setEmailAvailable(!isEmailTaken(email));
+        }
+        return response;
+    }
+
+    @Override
+    public boolean isUsernameTaken(String username) {
+        return isTaken(usernames, USERNAME_PREFIX, username, () -> userRepository.existsByUsername(username));
+    }
+
+    @Override
+    public boolean isEmailTaken(String email) {
+        return isTaken(emails, EMAIL_PREFIX, email, () -> userRepository.existsByEmail(email));
+    }
+
+    @Override
+    public void recordTaken(String username, String email) {
+        BloomFilter usernameFilter = usernames;
+        BloomFilter emailFilter = emails;
+        if (username != null) {
+            if (usernameFilter != null) {
+                usernameFilter.add(username);
+            }
+            taken.put(USERNAME_PREFIX + username, Boolean.TRUE);
+        }
+        if (email != null) {
+            if (emailFilter != null) {
+                emailFilter.add(email);
+            }
+            taken.put(EMAIL_PREFIX + email, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        BloomFilter usernameFilter = new BloomFilter(expectedAccounts, falsePositiveRate);
+        BloomFilter emailFilter = new BloomFilter(expectedAccounts, falsePositiveRate);
+        int accounts = 0;
+        List<UserAccountRow> page;
+        long afterId = 0;
+        do {
+            page = userRepository.findAccountRowsAfter(afterId, Limit.of(REBUILD_PAGE));
+            for (UserAccountRow row : page) {
+                usernameFilter.add(row.getUsername());
+                emailFilter.add(row.getEmail());
+                taken.put(USERNAME_PREFIX + row.getUsername(), Boolean.TRUE);
+                taken.put(EMAIL_PREFIX + row.getEmail(), Boolean.TRUE);
+                afterId = row.getId();
+                accounts++;
+            }
+        } while (page.size() == REBUILD_PAGE);
+        usernames = usernameFilter;
+        emails = emailFilter;
+        if (accounts > expectedAccounts) {
+            log.warn("{} accounts exceed availability.expected-accounts={}, more checks will reach the database",
+                    accounts, expectedAccounts);
+        }
+        log.info("Account availability filters built for {} accounts ({} bits, {} hashes each) in {} ms",
+                accounts, usernameFilter.bitSize(), usernameFilter.hashCount(), System.currentTimeMillis() - start);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    private boolean isTaken(BloomFilter filter, String prefix, String value, BooleanSupplier database) {
+        if (filter != null && !filter.mightContain(value)) {
+            bloomAnswers.increment();
+            return false;
+        }
+        String key = prefix + value;
+        if (taken.getIfPresent(key) != null) {
+            cacheAnswers.increment();
+            return true;
+        }
+        databaseAnswers.increment();
+        boolean exists = database.getAsBoolean();
+        if (exists) {
+            taken.put(key, Boolean.TRUE);
+        }
+        return exists;
+    }
+
+    private Counter counter(String source) {
+        return Counter.builder("taskmanager.auth.availability")
+                .description("Availability checks by where the answer came from")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -5,37 +5,68 @@ import com.taskmanager.dto.request.RegisterRequestDto;
 import com.taskmanager.dto.response.AuthResponseDto;
 import com.taskmanager.dto.response.UserResponseDto;
 import com.taskmanager.entity.User;
+import com.taskmanager.exception.ConflictException;
+import com.taskmanager.exception.ServiceUnavailableException;
 import com.taskmanager.mapper.UserMapper;
 import com.taskmanager.repository.UserRepository;
 import com.taskmanager.security.JwtTokenProvider;
 import com.taskmanager.service.AuthService;
+import com.taskmanager.service.AccountAvailabilityService;
+import com.taskmanager.service.TaskStatsService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
+@Timed("taskmanager.service")
 @RequiredArgsConstructor
 @Slf4j
 public class AuthServiceImpl implements AuthService {
 
+    private static final String USERNAME_TAKEN = "Username already exists";
+    private static final String EMAIL_TAKEN = "Email already exists";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
     private final UserMapper userMapper;
+    private final AccountAvailabilityService accountAvailabilityService;
+    private final TaskStatsService taskStatsService;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     public UserResponseDto register(RegisterRequestDto request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("Username already exists");
-        }
+        return userMapper.toResponseDto(createUser(request));
+    }
 
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already exists");
+    @Override
+    public AuthResponseDto registerAndIssueToken(RegisterRequestDto request) {
+        return issueToken(createUser(request));
+    }
+
+    /**
+     * One insert: the unique constraints decide whether the name or email is taken, so there is no
+     * exists-then-insert race. The in-memory availability check only saves hashing a password for a
+     * name that is already known to be taken. The user's empty stats row is inserted in the same
+     * transaction, so the counters exist before any task can be written.
+     */
+    private User createUser(RegisterRequestDto request) {
+        if (accountAvailabilityService.isUsernameTaken(request.getUsername())) {
+            throw new ConflictException(USERNAME_TAKEN);
+        }
+        if (accountAvailabilityService.isEmailTaken(request.getEmail())) {
+            throw new ConflictException(EMAIL_TAKEN);
         }
 
         User user = User.builder()
@@ -45,22 +76,64 @@ public class AuthServiceImpl implements AuthService {
                 .role("ROLE_USER")
                 .build();
 
-        User savedUser = userRepository.save(user);
-        return userMapper.toResponseDto(savedUser);
+        User savedUser;
+        try {
+            savedUser = new TransactionTemplate(transactionManager).execute(status -> {
+                User saved = userRepository.save(user);
+                taskStatsService.initialize(saved.getId());
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw registrationConflict(request, e);
+        }
+        accountAvailabilityService.recordTaken(savedUser.getUsername(), savedUser.getEmail());
+        return savedUser;
+    }
+
+    /**
+     * Maps a unique key violation to the value that is taken, confirmed with an exists query after the
+     * failed transaction rolled back. Anything else, or a violation neither query confirms, is rethrown.
+     */
+    private RuntimeException registrationConflict(RegisterRequestDto request, DataIntegrityViolationException e) {
+        if (!(e.getCause() instanceof ConstraintViolationException violation)
+                || violation.getKind() != ConstraintViolationException.ConstraintKind.UNIQUE) {
+            return e;
+        }
+        if (userRepository.existsByUsername(request.getUsername())) {
+            accountAvailabilityService.recordTaken(request.getUsername(), null);
+            return new ConflictException(USERNAME_TAKEN);
+        }
+        if (userRepository.existsByEmail(request.getEmail())) {
+            accountAvailabilityService.recordTaken(null, request.getEmail());
+            return new ConflictException(EMAIL_TAKEN);
+        }
+        return e;
     }
 
     @Override
     public AuthResponseDto login(LoginRequestDto request) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-        );
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
+            );
+        } catch (InternalAuthenticationServiceException e) {
+            // an unknown username still hashes against a dummy password, and the provider wraps whatever
+            // that throws; a full hashing pool must stay a 503 like it is for a known username
+            if (e.getCause() instanceof ServiceUnavailableException busy) {
+                throw busy;
+            }
+            throw e;
+        }
 
-        User user = (User) authentication.getPrincipal();
-        String token = jwtTokenProvider.generateToken(user);
+        return issueToken((User) authentication.getPrincipal());
+    }
 
+    private AuthResponseDto issueToken(User user) {
         return AuthResponseDto.builder()
-                .token(token)
+                .token(jwtTokenProvider.generateToken(user))
                 .username(user.getUsername())
+                .userId(user.getId())
                 .build();
     }
 }
@@ -0,0 +1,197 @@
+package com.taskmanager.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.dto.response.TaskStreamEventDto;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TasksImportedEvent;
+import com.taskmanager.service.TaskEventStreamService;
+import com.taskmanager.stream.SseConnection;
+import com.taskmanager.stream.UserEventStream;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed task changes to the user's open dashboards as server-sent events. Each user keeps a
+ * short replay buffer so a browser that reconnects with {@code Last-Event-ID} gets exactly the events it
+ * missed; writes happen on a separate pool so a slow client only ever costs its own capped queue.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventStreamServiceImpl implements TaskEventStreamService {
+
+    private static final UserEventStream.Frame HEARTBEAT = UserEventStream.Frame.comment("heartbeat");
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sse.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${sse.reconnect-delay:3s}")
+    private Duration reconnectDelay;
+
+    @Value("${sse.replay-buffer-size:256}")
+    private int replayBufferSize;
+
+    @Value("${sse.max-buffered-bytes:64KB}")
+    private DataSize maxBufferedBytes;
+
+    @Value("${sse.idle-retention:5m}")
+    private Duration idleRetention;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, UserEventStream> streams = new ConcurrentHashMap<>();
+
+    private ExecutorService writer;
+    private Counter overflows;
+
+    @PostConstruct
+    void start() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("sse-writer-");
+        threadFactory.setDaemon(true);
+        writer = Executors.newCachedThreadPool(threadFactory);
+        Gauge.builder("taskmanager.sse.connections", streams,
+                        map -> map.values().stream().mapToInt(UserEventStream::connectionCount).sum())
+                .register(meterRegistry);
+        overflows = Counter.builder("taskmanager.sse.overflows").register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        writer.shutdownNow();
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        SseConnection connection = new SseConnection(emitter, writer, maxBufferedBytes.toBytes());
+        try {
+            // buffered by the emitter until the response is committed, ahead of anything the writer sends
+            emitter.send(SseEmitter.event().reconnectTime(reconnectDelay.toMillis()));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        Runnable detach = () -> {
+            connection.close();
+            UserEventStream stream = streams.get(userId);
+            if (stream != null) {
+                stream.detach(connection, System.currentTimeMillis());
+            }
+            if (connection.isOverflowed()) {
+                log.debug("Event stream of user {} exceeded {} of pending events, closed", userId, maxBufferedBytes);
+            }
+        };
+        emitter.onCompletion(detach);
+        emitter.onTimeout(detach);
+        emitter.onError(e -> detach.run());
+
+        Long lastSeq = parseSequence(lastEventId);
+        // attached inside compute so the heartbeat cannot evict the stream between lookup and attach
+        streams.compute(userId, (id, stream) -> {
+            UserEventStream target = stream != null ? stream
+                    : new UserEventStream(replayBufferSize, epoch, sequence, System.currentTimeMillis());
+            if (!target.attach(connection, lastSeq)) {
+                log.debug("Cannot replay events after {} for user {}, sent reset", lastEventId, userId);
+            }
+            return target;
+        });
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        UserEventStream stream = streams.get(event.userId());
+        if (stream == null) {
+            return;
+        }
+        TaskStreamEventDto payload = TaskStreamEventDto.builder()
+                .taskId(event.taskId())
+                .status(event.task() == null ? null : event.task().getStatus())
+                .previousStatus(event.previousStatus())
+                .build();
+        try {
+            overflows.increment(stream.publish(eventName(event), objectMapper.writeValueAsString(payload)));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize task event for task {}: {}", event.taskId(), e.getMessage());
+        }
+    }
+
+    /**
+     * An imported batch is announced with one buffered {@code reset} event, which makes open dashboards
+     * reload the list once instead of filling the replay buffer with a card event per row.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        UserEventStream stream = streams.get(event.userId());
+        if (stream != null) {
+            overflows.increment(stream.publish("reset", "{}"));
+        }
+    }
+
+    /**
+     * Keeps idle connections from being closed by proxies and surfaces dead ones, whose writes fail.
+     * Streams without connections are dropped once they have been idle longer than the retention.
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval:15s}")
+    public void heartbeat() {
+        long cutoff = System.currentTimeMillis() - idleRetention.toMillis();
+        streams.forEach((userId, stream) -> {
+            overflows.increment(stream.broadcast(HEARTBEAT));
+            streams.computeIfPresent(userId, (id, current) -> current.idleBefore(cutoff) ? null : current);
+        });
+    }
+
+    private static String eventName(TaskChangedEvent event) {
+        return switch (event.type()) {
+            case CREATED -> "created";
+            case DELETED -> "deleted";
+            case UPDATED -> event.task() != null && !Objects.equals(event.previousStatus(), event.task().getStatus())
+                    ? "moved" : "updated";
+        };
+    }
+
+    /**
+     * The sequence part of an id issued by this process, {@code -1} for ids from an earlier process or
+     * that cannot be parsed (forcing a reset), and {@code null} when the client has no id yet.
+     */
+    private Long parseSequence(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        int dash = lastEventId.indexOf('-');
+        if (dash < 0 || !epoch.equals(lastEventId.substring(0, dash))) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.taskmanager.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.dto.response.TaskResponseDto;
+import com.taskmanager.entity.Task;
+import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.service.TaskDataFormat;
+import com.taskmanager.service.TaskExportService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's tasks straight from a database cursor to the response. Each row is mapped, written and
+ * detached before the next one is read, and output is flushed every {@value #FLUSH_EVERY} rows, so memory
+ * use does not grow with the number of tasks.
+ */
+@Service
+@Timed("taskmanager.service")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final int FLUSH_EVERY = 500;
+    private static final String CSV_HEADER = "id,title,description,status,priority,dueDate,createdAt";
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long export(Long userId, TaskDataFormat format, OutputStream out) throws IOException {
+        long rows = 0;
+        try (Stream<Task> tasks = taskRepository.streamAllByUserId(userId);
+             RowWriter writer = format == TaskDataFormat.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                writer.write(taskMapper.toResponseDto(task));
+                entityManager.detach(task);
+                if (++rows % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        log.debug("Exported {} tasks of user {} as {}", rows, userId, format);
+        return rows;
+    }
+
+    private interface RowWriter extends AutoCloseable {
+
+        void write(TaskResponseDto task) throws IOException;
+
+        void flush() throws IOException;
+
+        /** Flushes what is left without closing the response stream, which belongs to the container. */
+        @Override
+        void close() throws IOException;
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter rowWriter;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            generator = objectMapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // rows end with their own newline instead of Jackson's default space between root values
+            generator.setRootValueSeparator(null);
+            rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(TaskResponseDto task) throws IOException {
+            rowWriter.writeValue(generator, task);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(TaskResponseDto task) throws IOException {
+            writer.write(String.valueOf(task.getId()));
+            writer.write(',');
+            field(task.getTitle());
+            writer.write(',');
+            field(task.getDescription());
+            writer.write(',');
+            writer.write(task.getStatus());
+            writer.write(',');
+            writer.write(task.getPriority());
+            writer.write(',');
+            field(task.getDueDate() == null ? null : task.getDueDate().toString());
+            writer.write(',');
+            field(task.getCreatedAt() == null ? null : task.getCreatedAt().toString());
+            writer.write("\r\n");
+        }
+
+        /** RFC 4180 quoting: fields with separators, quotes or line breaks are quoted, quotes doubled. */
+        private void field(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.dto.response.TaskResponseDto;
+import com.taskmanager.dto.response.TaskTrendDto;
+import com.taskmanager.dto.response.TaskTrendPointDto;
+import com.taskmanager.entity.TaskDailyRollup;
+import com.taskmanager.entity.TaskEvent;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TasksImportedEvent;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.repository.TaskDailyRollupRepository;
+import com.taskmanager.repository.TaskEventRepository;
+import com.taskmanager.service.TaskHistoryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Records task creates, status changes and deletes into {@code task_events} and compacts them into
+ * {@code task_daily_rollups}. Committed changes are buffered and written in batches off the request path;
+ * when the buffer is full the thread that found it full writes it, so producers slow to the database's
+ * pace rather than events being dropped. Buffered events are lost if the process dies before a flush.
+ * <p>
+ * The rollup pass folds every event above a stored watermark into per-day counters with set-based
+ * statements. It relies on event ids growing in commit order, which holds because all writes from this
+ * process go through one lock; that lock is also held while the pass runs. Flushes and rollups run on
+ * their own scheduler thread so a slow job on the shared scheduler cannot let the buffer fill.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskHistoryServiceImpl implements TaskHistoryService {
+
+    private static final int MAX_TREND_DAYS = 366;
+
+    private final TaskEventRepository taskEventRepository;
+    private final TaskDailyRollupRepository taskDailyRollupRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${task-events.buffer-size:10000}")
+    private int bufferSize;
+
+    @Value("${task-events.batch-size:500}")
+    private int batchSize;
+
+    @Value("${task-events.retention:90d}")
+    private Duration retention;
+
+    @Value("${task-events.flush-interval:1s}")
+    private Duration flushInterval;
+
+    @Value("${task-events.rollup-cron:0 */5 * * * *}")
+    private String rollupCron;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private BlockingQueue<TaskEvent> buffer;
+    private TransactionTemplate transaction;
+    private ThreadPoolTaskScheduler scheduler;
+    private Counter written;
+    private Counter dropped;
+
+    @PostConstruct
+    void init() {
+        buffer = new ArrayBlockingQueue<>(bufferSize);
+        // listeners run after the publishing transaction committed, while its resources are still bound
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        written = Counter.builder("taskmanager.task.events.written").register(meterRegistry);
+        dropped = Counter.builder("taskmanager.task.events.dropped")
+                .description("Events lost because a batch failed to write")
+                .register(meterRegistry);
+        Gauge.builder("taskmanager.task.events.buffered", buffer, BlockingQueue::size).register(meterRegistry);
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("task-events-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::flush, flushInterval);
+        scheduler.schedule(this::rollUp, new CronTrigger(rollupCron));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskTrendDto getTrend(Long userId, int days) {
+        if (days < 1 || days > MAX_TREND_DAYS) {
+            throw new BadRequestException("days must be between 1 and " + MAX_TREND_DAYS);
+        }
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(days - 1L);
+        Map<LocalDate, TaskDailyRollup> rollups = taskDailyRollupRepository.findFrom(userId, from).stream()
+                .collect(Collectors.toMap(TaskDailyRollup::getRollupDate, Function.identity()));
+
+        List<TaskTrendPointDto> points = new ArrayList<>(days);
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            TaskDailyRollup rollup = rollups.get(day);
+            points.add(TaskTrendPointDto.builder()
+                    .date(day)
+                    .created(rollup == null ? 0 : rollup.getCreated())
+                    .completed(rollup == null ? 0 : rollup.getCompleted())
+                    .overdue(rollup == null ? 0 : rollup.getOverdue())
+                    .build());
+        }
+        return TaskTrendDto.builder().from(from).to(to).points(points).build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskEvent record = toRecord(event);
+        if (record != null) {
+            enqueue(record);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        for (TaskResponseDto task : event.tasks()) {
+            enqueue(TaskEvent.builder()
+                    .userId(event.userId())
+                    .taskId(task.getId())
+                    .occurredAt(now)
+                    .type(TaskEvent.Type.CREATED)
+                    .toStatus(task.getStatus())
+                    .build());
+        }
+    }
+
+    private void enqueue(TaskEvent record) {
+        while (!buffer.offer(record)) {
+            flush();
+        }
+    }
+
+    @Override
+    public int flush() {
+        writeLock.lock();
+        try {
+            int count = 0;
+            List<TaskEvent> batch = new ArrayList<>(batchSize);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                try {
+                    transaction.executeWithoutResult(status -> {
+                        batch.forEach(entityManager::persist);
+                        entityManager.flush();
+                        entityManager.clear();
+                    });
+                    written.increment(batch.size());
+                    count += batch.size();
+                } catch (RuntimeException e) {
+                    dropped.increment(batch.size());
+                    log.error("Dropped {} task events: {}", batch.size(), e.getMessage());
+                }
+                batch.clear();
+            }
+            return count;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public long rollUp() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        writeLock.lock();
+        try {
+            flush();
+            long start = System.currentTimeMillis();
+            long[] result = transaction.execute(status -> {
+                long from = taskEventRepository.lockRollupWatermark();
+                long to = taskEventRepository.findMaxId();
+                int days = 0;
+                if (to > from) {
+                    days = taskEventRepository.rollUp(from, to);
+                    taskEventRepository.advanceRollupWatermark(to);
+                }
+                taskEventRepository.clearOverdue(today);
+                taskEventRepository.snapshotOverdue(today);
+                int pruned = taskEventRepository.pruneRolledUp(to, cutoff);
+                return new long[]{days, pruned};
+            });
+            log.debug("Task events rolled up: {} user-days updated, {} old events pruned in {} ms",
+                    result[0], result[1], System.currentTimeMillis() - start);
+            return result[0];
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        scheduler.shutdown();
+        flush();
+    }
+
+    private static TaskEvent toRecord(TaskChangedEvent event) {
+        TaskEvent.TaskEventBuilder record = TaskEvent.builder()
+                .userId(event.userId())
+                .taskId(event.taskId())
+                .occurredAt(LocalDateTime.now());
+        return switch (event.type()) {
+            case CREATED -> record.type(TaskEvent.Type.CREATED)
+                    .toStatus(event.task().getStatus())
+                    .build();
+            case UPDATED -> event.previousStatus() == null || event.previousStatus().equals(event.task().getStatus())
+                    ? null
+                    : record.type(TaskEvent.Type.STATUS_CHANGED)
+                            .fromStatus(event.previousStatus())
+                            .toStatus(event.task().getStatus())
+                            .build();
+            case DELETED -> record.type(TaskEvent.Type.DELETED)
+                    .fromStatus(event.previousStatus())
+                    .build();
+        };
+    }
+}
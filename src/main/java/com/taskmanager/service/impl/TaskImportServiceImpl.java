@@ -0,0 +1,179 @@
+package com.taskmanager.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.dto.request.TaskCreateDto;
+import com.taskmanager.dto.response.TaskImportErrorDto;
+import com.taskmanager.dto.response.TaskImportReportDto;
+import com.taskmanager.dto.response.TaskResponseDto;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import com.taskmanager.event.TasksImportedEvent;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.importer.CsvTaskRecordReader;
+import com.taskmanager.importer.NdjsonTaskRecordReader;
+import com.taskmanager.importer.TaskRecord;
+import com.taskmanager.importer.TaskRecordReader;
+import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.TaskDataFormat;
+import com.taskmanager.service.TaskImportService;
+import com.taskmanager.service.TaskStatsService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports tasks from a request body as it arrives. Records are parsed and validated one at a time and
+ * inserted in batches of {@code import.batch-size}, each in its own transaction with the persistence
+ * context flushed and cleared afterwards, so memory stays at one batch however large the upload is. The
+ * body is only read as fast as batches are written, which pushes back on the client through TCP flow
+ * control. Invalid records are skipped and reported; batches already written stay written. Each batch
+ * publishes a single {@link TasksImportedEvent} rather than one change event per row.
+ */
+@Service
+@Timed("taskmanager.service")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final int PROGRESS_LOG_BATCHES = 50;
+
+    private final UserRepository userRepository;
+    private final TaskMapper taskMapper;
+    private final TaskStatsService taskStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${import.max-record-size:64KB}")
+    private DataSize maxRecordSize;
+
+    @Value("${import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    @Override
+    public TaskImportReportDto importTasks(Long userId, TaskDataFormat format, InputStream in) throws IOException {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        long start = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        int maxRecordChars = (int) maxRecordSize.toBytes();
+        TaskRecordReader records = format == TaskDataFormat.CSV
+                ? new CsvTaskRecordReader(reader, maxRecordChars)
+                : new NdjsonTaskRecordReader(reader, objectMapper, maxRecordChars);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<TaskCreateDto> batch = new ArrayList<>(batchSize);
+        List<TaskImportErrorDto> errors = new ArrayList<>();
+        long received = 0;
+        long imported = 0;
+        long failed = 0;
+        int batches = 0;
+
+        TaskRecord record;
+        while ((record = records.next()) != null) {
+            received++;
+            String error = record.error() != null ? record.error() : validate(record.task());
+            if (error != null) {
+                failed++;
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(TaskImportErrorDto.builder().line(record.line()).message(error).build());
+                }
+                continue;
+            }
+            batch.add(record.task());
+            if (batch.size() == batchSize) {
+                imported += insert(transaction, batch, userId);
+                batch.clear();
+                if (++batches % PROGRESS_LOG_BATCHES == 0) {
+                    log.info("Import for user {}: {} tasks imported, {} failed so far", userId, imported, failed);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += insert(transaction, batch, userId);
+            batches++;
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        double rowsPerSecond = durationMs == 0 ? received : received * 1000.0 / durationMs;
+        log.info("Imported {} of {} tasks for user {} as {} in {} ms ({} rows/s)",
+                imported, received, userId, format, durationMs, Math.round(rowsPerSecond));
+        return TaskImportReportDto.builder()
+                .format(format.getParam())
+                .received(received)
+                .imported(imported)
+                .failed(failed)
+                .batches(batches)
+                .durationMs(durationMs)
+                .rowsPerSecond(Math.round(rowsPerSecond * 10) / 10.0)
+                .errors(errors)
+                .errorsTruncated(failed > errors.size())
+                .build();
+    }
+
+    private int insert(TransactionTemplate transaction, List<TaskCreateDto> batch, Long userId) {
+        transaction.executeWithoutResult(status -> {
+            // imported rows would otherwise push the working set out of the second-level cache
+            Session session = entityManager.unwrap(Session.class);
+            CacheMode cacheMode = session.getCacheMode();
+            session.setCacheMode(CacheMode.IGNORE);
+            try {
+                User user = userRepository.getReferenceById(userId);
+                List<Task> tasks = new ArrayList<>(batch.size());
+                for (TaskCreateDto dto : batch) {
+                    Task task = taskMapper.toEntity(dto);
+                    task.setUser(user);
+                    entityManager.persist(task);
+                    tasks.add(task);
+                }
+                taskStatsService.recordChanges(userId, List.of(), tasks);
+                entityManager.flush();
+                List<TaskResponseDto> created = tasks.stream().map(taskMapper::toResponseDto).toList();
+                eventPublisher.publishEvent(new TasksImportedEvent(userId, created));
+                entityManager.clear();
+            } finally {
+                session.setCacheMode(cacheMode);
+            }
+        });
+        return batch.size();
+    }
+
+    private String validate(TaskCreateDto task) {
+        Set<ConstraintViolation<TaskCreateDto>> violations = validator.validate(task);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
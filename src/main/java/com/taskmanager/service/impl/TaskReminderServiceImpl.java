@@ -0,0 +1,241 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.dto.response.TaskResponseDto;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TasksImportedEvent;
+import com.taskmanager.reminder.HashedTimingWheel;
+import com.taskmanager.reminder.ReminderNotifier;
+import com.taskmanager.reminder.TaskReminder;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskRow;
+import com.taskmanager.service.TaskReminderService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reminds users of open tasks {@code reminders.lead-time} before the start of their due date. Only the
+ * reminders due within {@code reminders.window} are held, in a hashed timing wheel: the window is loaded
+ * with a range query on {@code due_date} at startup and extended every {@code reminders.refill-interval},
+ * and committed task changes schedule, move or cancel their reminder when it falls inside it. One thread
+ * advances the wheel every tick and performs the refills, so the two never overlap.
+ * <p>
+ * Before notifying, the expiring tasks are read back in one query and reminders whose task has since been
+ * deleted, finished or moved to another date are dropped, so a refill that read a row just before it was
+ * changed cannot remind about stale state. Reminders that fell due while the process was down are not
+ * replayed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskReminderServiceImpl implements TaskReminderService {
+
+    private static final int VERIFY_CHUNK = 1000;
+
+    private final TaskRepository taskRepository;
+    private final List<ReminderNotifier> notifiers;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${reminders.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reminders.lead-time:24h}")
+    private Duration leadTime;
+
+    @Value("${reminders.tick:1s}")
+    private Duration tick;
+
+    @Value("${reminders.wheel-size:3600}")
+    private int wheelSize;
+
+    @Value("${reminders.window:6h}")
+    private Duration window;
+
+    @Value("${reminders.refill-interval:1h}")
+    private Duration refillInterval;
+
+    private HashedTimingWheel<Long, TaskReminder> wheel;
+    private ScheduledExecutorService driver;
+    /** Epoch millis up to which every reminder has been loaded; changes past it wait for a refill. */
+    private volatile long loadedUntil = Long.MIN_VALUE;
+    private Counter sent;
+    private Counter stale;
+    private Counter failed;
+
+    @PostConstruct
+    void init() {
+        if (refillInterval.compareTo(window) >= 0) {
+            throw new IllegalStateException("reminders.refill-interval must be shorter than reminders.window");
+        }
+        wheel = new HashedTimingWheel<>(tick.toMillis(), wheelSize, System.currentTimeMillis());
+        sent = Counter.builder("taskmanager.reminders.sent").register(meterRegistry);
+        stale = Counter.builder("taskmanager.reminders.stale")
+                .description("Reminders dropped because the task changed after they were scheduled")
+                .register(meterRegistry);
+        failed = Counter.builder("taskmanager.reminders.failed")
+                .description("Notifier calls that threw")
+                .register(meterRegistry);
+        Gauge.builder("taskmanager.reminders.pending", this, TaskReminderService::pending).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Task reminders are disabled");
+            return;
+        }
+        loadedUntil = System.currentTimeMillis();
+        driver = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("reminder-wheel-"));
+        driver.execute(this::refill);
+        driver.scheduleAtFixedRate(this::advance, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        driver.scheduleWithFixedDelay(this::refill, refillInterval.toMillis(), refillInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (driver != null) {
+            driver.shutdownNow();
+        }
+    }
+
+    @Override
+    public int loadNextWindow() {
+        long from = loadedUntil;
+        long to = System.currentTimeMillis() + window.toMillis();
+        if (to <= from) {
+            return 0;
+        }
+        // moved first so changes committed while the rows are read schedule themselves
+        loadedUntil = to;
+        LocalDate firstDue = toDateTime(from).plus(leadTime).toLocalDate();
+        LocalDate lastDue = toDateTime(to).plus(leadTime).toLocalDate();
+        int scheduled = 0;
+        for (TaskRow row : taskRepository.findOpenRowsDueBetween(firstDue, lastDue)) {
+            LocalDateTime remindAt = remindAt(row.dueDate());
+            long at = toEpochMillis(remindAt);
+            // a reminder already scheduled by a change event is newer than this row
+            if (at > from && at <= to && wheel.scheduleIfAbsent(row.id(), at,
+                    new TaskReminder(row.id(), row.userId(), row.title(), row.dueDate(), remindAt))) {
+                scheduled++;
+            }
+        }
+        return scheduled;
+    }
+
+    @Override
+    public int pending() {
+        return wheel.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        apply(event.userId(), event.taskId(), event.task());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        for (TaskResponseDto task : event.tasks()) {
+            apply(event.userId(), task.getId(), task);
+        }
+    }
+
+    private void apply(Long userId, Long taskId, TaskResponseDto task) {
+        if (task == null || task.getDueDate() == null || "DONE".equals(task.getStatus())) {
+            wheel.cancel(taskId);
+            return;
+        }
+        LocalDateTime remindAt = remindAt(task.getDueDate());
+        long at = toEpochMillis(remindAt);
+        if (at > System.currentTimeMillis() && at <= loadedUntil) {
+            wheel.schedule(taskId, at, new TaskReminder(taskId, userId, task.getTitle(), task.getDueDate(), remindAt));
+        } else {
+            // past reminders are not sent late; ones beyond the window are picked up by a refill
+            wheel.cancel(taskId);
+        }
+    }
+
+    private void refill() {
+        try {
+            long start = System.currentTimeMillis();
+            int scheduled = loadNextWindow();
+            log.debug("Reminder window loaded up to {}: {} scheduled, {} pending, in {} ms",
+                    toDateTime(loadedUntil), scheduled, wheel.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // the window stays ahead of the wheel by window - refill-interval, so the next refill catches up
+            log.error("Loading the reminder window failed: {}", e.getMessage());
+        }
+    }
+
+    private void advance() {
+        try {
+            List<TaskReminder> due = wheel.advance(System.currentTimeMillis());
+            for (int i = 0; i < due.size(); i += VERIFY_CHUNK) {
+                notifyCurrent(due.subList(i, Math.min(i + VERIFY_CHUNK, due.size())));
+            }
+        } catch (RuntimeException e) {
+            log.error("Advancing the reminder wheel failed: {}", e.getMessage());
+        }
+    }
+
+    private void notifyCurrent(List<TaskReminder> reminders) {
+        List<Long> ids = reminders.stream().map(TaskReminder::taskId).toList();
+        Map<Long, TaskRow> current = taskRepository.findRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskRow::id, Function.identity()));
+        for (TaskReminder reminder : reminders) {
+            TaskRow row = current.get(reminder.taskId());
+            if (row == null || "DONE".equals(row.status()) || !Objects.equals(row.dueDate(), reminder.dueDate())) {
+                stale.increment();
+                continue;
+            }
+            TaskReminder fresh = new TaskReminder(row.id(), row.userId(), row.title(), row.dueDate(),
+                    reminder.remindAt());
+            for (ReminderNotifier notifier : notifiers) {
+                try {
+                    notifier.notify(fresh);
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    log.warn("{} failed for task {}: {}",
+                            notifier.getClass().getSimpleName(), row.id(), e.getMessage());
+                }
+            }
+            sent.increment();
+        }
+    }
+
+    private LocalDateTime remindAt(LocalDate dueDate) {
+        return dueDate.atStartOfDay().minus(leadTime);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,120 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.dto.response.TaskResponseDto;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TasksImportedEvent;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskRow;
+import com.taskmanager.repository.TaskSearchRow;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.search.UserTaskIndex;
+import com.taskmanager.service.TaskSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps one in-memory {@link UserTaskIndex} per user. Indexes are filled from the database at startup
+ * (or on a user's first search) and then follow committed task writes through {@link TaskChangedEvent}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TaskMapper taskMapper;
+
+    @Value("${search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    private final Map<Long, UserTaskIndex> indexes = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponseDto> search(String query, Integer limit, Long userId) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("q must not be blank");
+        }
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<Long> ids = index(userId).search(query, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TaskRow> tasks = taskRepository.findRowsByIdInAndUserId(ids, userId).stream()
+                .collect(Collectors.toMap(TaskRow::id, Function.identity()));
+        return ids.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .map(taskMapper::toResponseDto)
+                .toList();
+    }
+
+    @Override
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        indexes.clear();
+        userRepository.findAllIds().forEach(this::index);
+        log.info("Task search index built for {} users, {} tasks in {} ms", indexes.size(),
+                indexes.values().stream().mapToInt(UserTaskIndex::size).sum(), System.currentTimeMillis() - start);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        // users whose index is not built yet pick the change up from the database when it is
+        UserTaskIndex index = indexes.get(event.userId());
+        if (index == null) {
+            return;
+        }
+        if (event.type() == TaskChangedEvent.Type.DELETED) {
+            index.remove(event.taskId());
+        } else {
+            index.put(event.taskId(), event.task().getTitle(), event.task().getDescription());
+        }
+    }
+
+    /** Drops the user's index rather than adding the batch row by row; the next search reloads it. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        indexes.remove(event.userId());
+    }
+
+    private UserTaskIndex index(Long userId) {
+        UserTaskIndex index = indexes.computeIfAbsent(userId, id -> new UserTaskIndex());
+        index.loadOnce(loading -> {
+            for (TaskSearchRow row : taskRepository.findSearchRowsByUserId(userId)) {
+                loading.load(row.getId(), row.getTitle(), row.getDescription());
+            }
+        });
+        return index;
+    }
+}
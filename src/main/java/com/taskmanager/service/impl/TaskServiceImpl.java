@@ -1,58 +1,122 @@
 package com.taskmanager.service.impl;
 
+import com.taskmanager.dto.request.TaskBulkItemDto;
+import com.taskmanager.dto.request.TaskBulkRequestDto;
 import com.taskmanager.dto.request.TaskCreateDto;
+import com.taskmanager.dto.request.TaskFilterDto;
 import com.taskmanager.dto.request.TaskUpdateDto;
+import com.taskmanager.dto.response.TaskBulkItemResultDto;
+import com.taskmanager.dto.response.TaskBulkResponseDto;
+import com.taskmanager.dto.response.TaskPageResponseDto;
 import com.taskmanager.dto.response.TaskResponseDto;
 import com.taskmanager.entity.Task;
 import com.taskmanager.entity.User;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.ConflictException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.mapper.TaskMapper;
+import com.taskmanager.repository.TaskCursor;
 import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskRow;
+import com.taskmanager.repository.TaskSort;
 import com.taskmanager.repository.UserRepository;
 import com.taskmanager.service.TaskService;
+import com.taskmanager.service.TaskStatsService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("taskmanager.service")
 @RequiredArgsConstructor
 @Slf4j
 public class TaskServiceImpl implements TaskService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final TaskMapper taskMapper;
+    private final TaskStatsService taskStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
     public TaskResponseDto createTask(TaskCreateDto request, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
-        Task task = taskMapper.toEntity(request);
-        task.setUser(user);
-
-        if (task.getStatus() == null) {
-            task.setStatus("TODO");
-        }
-        if (task.getPriority() == null) {
-            task.setPriority("MEDIUM");
-        }
-
+        Task task = newTask(request, user);
         Task savedTask = taskRepository.save(task);
-        return taskMapper.toResponseDto(savedTask);
+        taskStatsService.recordCreated(savedTask);
+        TaskResponseDto response = taskMapper.toResponseDto(savedTask);
+        eventPublisher.publishEvent(new TaskChangedEvent(
+                TaskChangedEvent.Type.CREATED, userId, savedTask.getId(), response, null));
+        return response;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskResponseDto> getAllTasks(Long userId) {
-        return taskRepository.findAllByUserId(userId).stream()
+        return taskRepository.findRowsByUserId(userId).stream()
                 .map(taskMapper::toResponseDto)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public TaskPageResponseDto getTasks(TaskFilterDto filter, Long userId) {
+        int limit = filter.getLimit() == null ? DEFAULT_PAGE_SIZE : filter.getLimit();
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        TaskSort sort;
+        TaskCursor after;
+        try {
+            sort = TaskSort.fromParam(filter.getSort());
+            after = filter.getCursor() == null ? null : TaskCursor.decode(filter.getCursor(), sort);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
+        List<TaskRow> rows = taskRepository.findPageByUserId(userId, filter, sort, after, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<TaskRow> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String next = null;
+        if (hasMore) {
+            TaskRow last = page.get(page.size() - 1);
+            next = TaskCursor.after(sort, last.dueDate(), last.createdAt(), last.id()).encode();
+        }
+
+        return TaskPageResponseDto.builder()
+                .items(page.stream().map(taskMapper::toResponseDto).collect(Collectors.toList()))
+                .next(next)
+                .build();
+    }
+
+    /**
+     * Stays on the entity: a lookup by id is answered from the {@code tasks} cache region without SQL,
+     * which a projection query would always need.
+     */
+    @Override
+    @Transactional(readOnly = true)
     public TaskResponseDto getTaskById(Long taskId, Long userId) {
         Task task = taskRepository.findByIdAndUserId(taskId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
@@ -60,10 +124,204 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional
     public TaskResponseDto updateTask(Long taskId, TaskUpdateDto request, Long userId) {
         Task task = taskRepository.findByIdAndUserId(taskId, userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+        if (request.getVersion() != null && !request.getVersion().equals(task.getVersion())) {
+            throw new ConflictException("Task " + taskId + " was changed by another request (now at version "
+                    + task.getVersion() + ")");
+        }
+        Task before = snapshot(task);
+        applyUpdate(task, request);
+
+        // flushing here runs the versioned update now, so the response already carries the new version
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        taskStatsService.recordUpdated(before, updatedTask);
+        TaskResponseDto response = taskMapper.toResponseDto(updatedTask);
+        eventPublisher.publishEvent(new TaskChangedEvent(
+                TaskChangedEvent.Type.UPDATED, userId, taskId, response, before.getStatus()));
+        return response;
+    }
+
+    /**
+     * Reads the row as a projection for the previous status and the event payload, then writes the status
+     * with {@link TaskRepository#updateStatus}, which matches no row if another request got in first.
+     */
+    @Override
+    @Transactional
+    public TaskResponseDto moveTask(Long taskId, String status, Long version, Long userId) {
+        TaskRow row = taskRepository.findRowByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+        Long expected = version != null ? version : row.version();
+        if (!expected.equals(row.version()) || taskRepository.updateStatus(taskId, userId, expected, status) == 0) {
+            throw new ConflictException("Task " + taskId + " was changed by another request");
+        }
+
+        Task before = Task.builder().status(row.status()).priority(row.priority()).dueDate(row.dueDate()).build();
+        Task after = Task.builder().status(status).priority(row.priority()).dueDate(row.dueDate()).build();
+        taskStatsService.recordChanges(userId, List.of(before), List.of(after));
+        TaskResponseDto response = taskMapper.toResponseDto(row);
+        response.setStatus(status);
+        response.setVersion(expected + 1);
+        eventPublisher.publishEvent(new TaskChangedEvent(
+                TaskChangedEvent.Type.UPDATED, userId, taskId, response, row.status()));
+        return response;
+    }
+
+    @Override
+    @Transactional
+    public void deleteTask(Long taskId, Long userId) {
+        Task task = taskRepository.findByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
+        taskRepository.delete(task);
+        taskStatsService.recordDeleted(task);
+        eventPublisher.publishEvent(new TaskChangedEvent(
+                TaskChangedEvent.Type.DELETED, userId, taskId, null, task.getStatus()));
+    }
+
+    @Override
+    @Transactional
+    public TaskBulkResponseDto applyBulk(TaskBulkRequestDto request, Long userId) {
+        List<TaskBulkItemDto> items = request.getItems();
+        Set<Long> ids = items.stream()
+                .filter(item -> item.getOp() != null && item.getOp() != TaskBulkItemDto.Operation.CREATE)
+                .map(TaskBulkItemDto::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Task> existing = ids.isEmpty() ? Map.of() : taskRepository.findAllByIdInAndUserId(ids, userId).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
 
+        List<TaskBulkItemResultDto> results = new ArrayList<>(items.size());
+        Set<Long> seen = new HashSet<>();
+        int failed = 0;
+        for (int i = 0; i < items.size(); i++) {
+            TaskBulkItemDto item = items.get(i);
+            String error = validate(item, existing, seen);
+            if (error != null) {
+                failed++;
+            }
+            results.add(TaskBulkItemResultDto.builder()
+                    .index(i)
+                    .op(item.getOp())
+                    .id(item.getId())
+                    .outcome(error == null ? TaskBulkItemResultDto.Outcome.SKIPPED : TaskBulkItemResultDto.Outcome.FAILED)
+                    .message(error)
+                    .build());
+        }
+        if (failed > 0) {
+            return TaskBulkResponseDto.builder().applied(false).failed(failed).results(results).build();
+        }
+
+        User user = userRepository.getReferenceById(userId);
+        List<Task> created = new ArrayList<>();
+        List<Task> updated = new ArrayList<>();
+        List<Task> deleted = new ArrayList<>();
+        List<Task> removedForStats = new ArrayList<>();
+        Map<Integer, Task> touched = new HashMap<>();
+        Map<Integer, String> previousStatus = new HashMap<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            TaskBulkItemDto item = items.get(i);
+            switch (item.getOp()) {
+                case CREATE -> {
+                    Task task = newTask(taskMapper.toCreateDto(item), user);
+                    created.add(task);
+                    touched.put(i, task);
+                }
+                case UPDATE -> {
+                    Task task = existing.get(item.getId());
+                    removedForStats.add(snapshot(task));
+                    previousStatus.put(i, task.getStatus());
+                    applyUpdate(task, taskMapper.toUpdateDto(item));
+                    updated.add(task);
+                    touched.put(i, task);
+                }
+                case DELETE -> {
+                    Task task = existing.get(item.getId());
+                    removedForStats.add(task);
+                    previousStatus.put(i, task.getStatus());
+                    deleted.add(task);
+                }
+            }
+        }
+
+        taskRepository.saveAll(created);
+        taskRepository.deleteAll(deleted);
+        taskRepository.flush();
+
+        List<Task> addedForStats = new ArrayList<>(created);
+        addedForStats.addAll(updated);
+        taskStatsService.recordChanges(userId, removedForStats, addedForStats);
+
+        for (int i = 0; i < items.size(); i++) {
+            TaskBulkItemDto item = items.get(i);
+            TaskBulkItemResultDto result = results.get(i);
+            result.setOutcome(TaskBulkItemResultDto.Outcome.APPLIED);
+            Task task = touched.get(i);
+            if (task == null) {
+                eventPublisher.publishEvent(new TaskChangedEvent(
+                        TaskChangedEvent.Type.DELETED, userId, item.getId(), null, previousStatus.get(i)));
+                continue;
+            }
+            TaskResponseDto response = taskMapper.toResponseDto(task);
+            result.setId(task.getId());
+            result.setTask(response);
+            eventPublisher.publishEvent(item.getOp() == TaskBulkItemDto.Operation.CREATE
+                    ? new TaskChangedEvent(TaskChangedEvent.Type.CREATED, userId, task.getId(), response, null)
+                    : new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, userId, task.getId(), response, previousStatus.get(i)));
+        }
+
+        return TaskBulkResponseDto.builder()
+                .applied(true)
+                .created(created.size())
+                .updated(updated.size())
+                .deleted(deleted.size())
+                .results(results)
+                .build();
+    }
+
+    private String validate(TaskBulkItemDto item, Map<Long, Task> existing, Set<Long> seen) {
+        if (item.getOp() == null) {
+            return "op is required";
+        }
+        if (item.getOp() == TaskBulkItemDto.Operation.CREATE) {
+            return item.getTitle() == null || item.getTitle().isBlank() ? "title: must not be blank" : null;
+        }
+        if (item.getId() == null) {
+            return "id is required";
+        }
+        if (!existing.containsKey(item.getId())) {
+            return "Task not found with id: " + item.getId();
+        }
+        if (!seen.add(item.getId())) {
+            return "Task " + item.getId() + " appears more than once";
+        }
+        Long version = existing.get(item.getId()).getVersion();
+        if (item.getVersion() != null && !item.getVersion().equals(version)) {
+            return "Task " + item.getId() + " was changed by another request (now at version " + version + ")";
+        }
+        if (item.getOp() == TaskBulkItemDto.Operation.UPDATE && item.getTitle() != null && item.getTitle().isBlank()) {
+            return "title: must not be blank";
+        }
+        return null;
+    }
+
+    private Task newTask(TaskCreateDto request, User user) {
+        Task task = taskMapper.toEntity(request);
+        task.setUser(user);
+        return task;
+    }
+
+    private Task snapshot(Task task) {
+        return Task.builder()
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .dueDate(task.getDueDate())
+                .build();
+    }
+
+    private void applyUpdate(Task task, TaskUpdateDto request) {
         if (request.getTitle() != null) {
             task.setTitle(request.getTitle());
         }
@@ -79,15 +337,5 @@ public class TaskServiceImpl implements TaskService {
         if (request.getDueDate() != null) {
             task.setDueDate(request.getDueDate());
         }
-
-        Task updatedTask = taskRepository.save(task);
-        return taskMapper.toResponseDto(updatedTask);
-    }
-
-    @Override
-    public void deleteTask(Long taskId, Long userId) {
-        Task task = taskRepository.findByIdAndUserId(taskId, userId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + taskId));
-        taskRepository.delete(task);
     }
 }
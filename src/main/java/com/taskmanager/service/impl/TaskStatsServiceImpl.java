@@ -0,0 +1,172 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.dto.response.TaskStatsDto;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.UserTaskStats;
+import com.taskmanager.mapper.TaskStatsMapper;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.repository.UserTaskStatsRepository;
+import com.taskmanager.service.TaskStatsService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Timed("taskmanager.service")
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatsServiceImpl implements TaskStatsService {
+
+    private static final int DUE_SOON_DAYS = 3;
+
+    private final UserTaskStatsRepository statsRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TaskStatsMapper taskStatsMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional
+    public TaskStatsDto getStats(Long userId) {
+        LocalDate today = LocalDate.now();
+        Optional<UserTaskStats> stored = statsRepository.findById(userId);
+        if (stored.isPresent() && today.equals(stored.get().getBucketsDate())) {
+            return taskStatsMapper.toDto(stored.get());
+        }
+
+        UserTaskStats stats = statsRepository.findForUpdate(userId)
+                .orElseGet(() -> UserTaskStats.builder().userId(userId).build());
+        TaskStatsDto actual = aggregate(userId, today);
+        taskStatsMapper.updateEntity(actual, stats);
+        stats.setBucketsDate(today);
+        statsRepository.save(stats);
+        return actual;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void initialize(Long userId) {
+        statsRepository.save(UserTaskStats.builder()
+                .userId(userId)
+                .bucketsDate(LocalDate.now())
+                .build());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Task task) {
+        applyDelta(task.getUser().getId(), List.of(), List.of(task));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Task before, Task after) {
+        applyDelta(after.getUser().getId(), List.of(before), List.of(after));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Task task) {
+        applyDelta(task.getUser().getId(), List.of(task), List.of());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanges(Long userId, List<Task> removed, List<Task> added) {
+        applyDelta(userId, removed, added);
+    }
+
+    @Scheduled(cron = "${stats.reconcile-cron}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    @Override
+    public int reconcile() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int drifted = 0;
+        for (Long userId : userRepository.findAllIds()) {
+            if (Boolean.TRUE.equals(transaction.execute(status -> reconcileUser(userId)))) {
+                drifted++;
+            }
+        }
+        log.info("Task stats reconciled, users with drift: {}", drifted);
+        return drifted;
+    }
+
+    private boolean reconcileUser(Long userId) {
+        LocalDate today = LocalDate.now();
+        Optional<UserTaskStats> locked = statsRepository.findForUpdate(userId);
+        TaskStatsDto actual = aggregate(userId, today);
+
+        boolean drift = false;
+        if (locked.isPresent()) {
+            TaskStatsDto stored = taskStatsMapper.toDto(locked.get());
+            if (!today.equals(locked.get().getBucketsDate())) {
+                stored.setOverdue(actual.getOverdue());
+                stored.setDueToday(actual.getDueToday());
+                stored.setDueSoon(actual.getDueSoon());
+                stored.setOnTrack(actual.getOnTrack());
+                stored.setNoDate(actual.getNoDate());
+            }
+            drift = !stored.equals(actual);
+            if (drift) {
+                log.warn("Task stats drift for user {}: stored={}, actual={}", userId, stored, actual);
+            }
+        }
+
+        UserTaskStats stats = locked.orElseGet(() -> UserTaskStats.builder().userId(userId).build());
+        taskStatsMapper.updateEntity(actual, stats);
+        stats.setBucketsDate(today);
+        statsRepository.save(stats);
+        return drift;
+    }
+
+    private void applyDelta(Long userId, List<Task> removed, List<Task> added) {
+        Optional<UserTaskStats> locked = statsRepository.findForUpdate(userId);
+        if (locked.isEmpty()) {
+            // No counters yet: the first read builds them from the tasks table, including this write.
+            return;
+        }
+
+        UserTaskStats stats = locked.get();
+        LocalDate today = LocalDate.now();
+        LocalDate bucketDay = today.equals(stats.getBucketsDate()) ? today : null;
+
+        TaskStatsDto dto = taskStatsMapper.toDto(stats);
+        removed.forEach(task -> add(dto, task, -1, bucketDay));
+        added.forEach(task -> add(dto, task, 1, bucketDay));
+        taskStatsMapper.updateEntity(dto, stats);
+    }
+
+    private void add(TaskStatsDto stats, Task task, long delta, LocalDate today) {
+        LocalDate due = task.getDueDate();
+        boolean buckets = today != null;
+        LocalDate soonUntil = buckets ? today.plusDays(DUE_SOON_DAYS) : null;
+        stats.add(task.getStatus(), task.getPriority(), delta,
+                buckets && due != null && due.isBefore(today) ? delta : 0,
+                buckets && due != null && due.isEqual(today) ? delta : 0,
+                buckets && due != null && due.isAfter(today) && !due.isAfter(soonUntil) ? delta : 0,
+                buckets && due != null && due.isAfter(soonUntil) ? delta : 0,
+                buckets && due == null ? delta : 0);
+    }
+
+    private TaskStatsDto aggregate(Long userId, LocalDate today) {
+        TaskStatsDto stats = new TaskStatsDto();
+        taskRepository.aggregateStatsByUserId(userId, today, today.plusDays(DUE_SOON_DAYS))
+                .forEach(row -> stats.add(row.getStatus(), row.getPriority(), row.getTotal(),
+                        row.getOverdue(), row.getDueToday(), row.getDueSoon(), row.getOnTrack(), row.getNoDate()));
+        return stats;
+    }
+}
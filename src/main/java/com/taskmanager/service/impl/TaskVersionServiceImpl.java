@@ -0,0 +1,47 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TasksImportedEvent;
+import com.taskmanager.service.TaskVersionService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user task data version, bumped after each task write commits. Versions live in memory, so the
+ * ETag also carries a per-process epoch: after a restart every previously issued ETag stops matching.
+ */
+@Service
+public class TaskVersionServiceImpl implements TaskVersionService {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public long currentVersion(Long userId) {
+        AtomicLong version = versions.get(userId);
+        return version == null ? 0 : version.get();
+    }
+
+    @Override
+    public String etag(Long userId) {
+        return "\"" + epoch + "-" + userId + "-" + currentVersion(userId) + "\"";
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        bump(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        bump(event.userId());
+    }
+
+    private void bump(Long userId) {
+        versions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskmanager.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+
+/**
+ * One open event stream. Frames are queued and written by a single drain task on {@code executor}, so
+ * the thread that publishes a change never blocks on a slow client. Frames waiting to be written may
+ * not exceed {@code maxBufferedBytes}; once they would, the queue is dropped and the stream is closed,
+ * and the browser reconnects with {@code Last-Event-ID} to replay what it missed.
+ */
+@Slf4j
+public class SseConnection {
+
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final long maxBufferedBytes;
+
+    private final Deque<UserEventStream.Frame> queue = new ArrayDeque<>();
+    private long bufferedBytes;
+    private boolean draining;
+    private boolean closed;
+    private boolean overflowed;
+
+    public SseConnection(SseEmitter emitter, Executor executor, long maxBufferedBytes) {
+        this.emitter = emitter;
+        this.executor = executor;
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    public SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * Queues a frame for sending. Returns {@code false} when the connection is closed, including when
+     * this frame pushed it over its memory cap.
+     */
+    public boolean offer(UserEventStream.Frame frame) {
+        boolean accepted;
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            accepted = bufferedBytes + frame.size() <= maxBufferedBytes;
+            if (accepted) {
+                queue.add(frame);
+                bufferedBytes += frame.size();
+            } else {
+                closed = true;
+                overflowed = true;
+                queue.clear();
+                bufferedBytes = 0;
+            }
+            if (draining) {
+                return accepted;
+            }
+            draining = true;
+        }
+        executor.execute(this::drain);
+        return accepted;
+    }
+
+    public boolean fits(long bytes) {
+        return bytes <= maxBufferedBytes;
+    }
+
+    /** Marks the connection closed without writing to it, for use from emitter callbacks. */
+    public synchronized void close() {
+        closed = true;
+        queue.clear();
+        bufferedBytes = 0;
+    }
+
+    public synchronized boolean isOverflowed() {
+        return overflowed;
+    }
+
+    private void drain() {
+        while (true) {
+            UserEventStream.Frame frame;
+            synchronized (this) {
+                if (closed) {
+                    draining = false;
+                    break;
+                }
+                frame = queue.poll();
+                if (frame == null) {
+                    draining = false;
+                    return;
+                }
+                bufferedBytes -= frame.size();
+            }
+            try {
+                emitter.send(frame.toEvent());
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Event stream write failed: {}", e.getMessage());
+                close();
+                return;
+            }
+        }
+        // closed by an overflow while frames were being written; end the response from the writer thread
+        emitter.complete();
+    }
+}
@@ -0,0 +1,136 @@
+package com.taskmanager.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The open connections of one user plus the last {@code capacity} events sent to them. Event ids are
+ * {@code epoch-sequence}, with one sequence shared by all users; {@code horizon} is the newest sequence
+ * evicted from the buffer (or the sequence current when the stream was created), so a client whose last
+ * seen sequence is below it has missed events that can no longer be replayed.
+ */
+public class UserEventStream {
+
+    private final int capacity;
+    private final String epoch;
+    private final AtomicLong sequence;
+    private final Deque<Frame> buffer;
+    private final List<SseConnection> connections = new ArrayList<>();
+    private long horizon;
+    private long idleSince;
+
+    public UserEventStream(int capacity, String epoch, AtomicLong sequence, long now) {
+        this.capacity = capacity;
+        this.epoch = epoch;
+        this.sequence = sequence;
+        this.buffer = new ArrayDeque<>(capacity);
+        this.horizon = sequence.get();
+        this.idleSince = now;
+    }
+
+    /** Buffers and sends an event; returns how many connections it closed by exceeding their memory cap. */
+    public synchronized int publish(String name, String data) {
+        long seq = sequence.incrementAndGet();
+        Frame frame = new Frame(seq, epoch + "-" + seq, name, data);
+        buffer.add(frame);
+        if (buffer.size() > capacity) {
+            horizon = buffer.removeFirst().seq();
+        }
+        return offerAll(frame);
+    }
+
+    /**
+     * Adds a connection and queues every buffered event newer than {@code lastSeq}, or a {@code ready}
+     * event when the client has not seen any yet. When the missed events are no longer all buffered, or
+     * would not fit in the connection's memory cap, a {@code reset} event is queued instead and the client
+     * is expected to reload its full state. Pass {@code -1} for an id from another process. Returns whether
+     * the connection continues exactly where the client left off.
+     */
+    public synchronized boolean attach(SseConnection connection, Long lastSeq) {
+        connections.add(connection);
+        idleSince = 0;
+        if (lastSeq == null) {
+            connection.offer(marker("ready"));
+            return true;
+        }
+        List<Frame> missed = new ArrayList<>();
+        long bytes = 0;
+        for (Frame frame : buffer) {
+            if (frame.seq() > lastSeq) {
+                missed.add(frame);
+                bytes += frame.size();
+            }
+        }
+        if (lastSeq < horizon || !connection.fits(bytes)) {
+            connection.offer(marker("reset"));
+            return false;
+        }
+        missed.forEach(connection::offer);
+        return true;
+    }
+
+    public synchronized void detach(SseConnection connection, long now) {
+        connections.remove(connection);
+        if (connections.isEmpty() && idleSince == 0) {
+            idleSince = now;
+        }
+    }
+
+    /** Sends {@code frame} to open connections only, without buffering it for replay. */
+    public synchronized int broadcast(Frame frame) {
+        return offerAll(frame);
+    }
+
+    private int offerAll(Frame frame) {
+        int before = connections.size();
+        connections.removeIf(connection -> !connection.offer(frame));
+        return before - connections.size();
+    }
+
+    /** An unbuffered event whose id moves the client's {@code Last-Event-ID} up to the current sequence. */
+    private Frame marker(String name) {
+        long seq = sequence.get();
+        return new Frame(seq, epoch + "-" + seq, name, "{}");
+    }
+
+    public synchronized int connectionCount() {
+        return connections.size();
+    }
+
+    public synchronized boolean idleBefore(long cutoff) {
+        return connections.isEmpty() && idleSince != 0 && idleSince < cutoff;
+    }
+
+    /**
+     * One server-sent event. A frame without a name is written as an SSE comment, which keeps the
+     * connection alive without reaching the page's event handlers.
+     */
+    public record Frame(long seq, String id, String name, String data) {
+
+        private static final int FIELD_OVERHEAD = 24;
+
+        public static Frame comment(String text) {
+            return new Frame(0, null, null, text);
+        }
+
+        public int size() {
+            return FIELD_OVERHEAD + length(id) + length(name) + length(data);
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment(data);
+            }
+            return SseEmitter.event().id(id).name(name).data(data);
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+    }
+}
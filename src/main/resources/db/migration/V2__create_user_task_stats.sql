@@ -0,0 +1,27 @@
+CREATE TABLE user_task_stats (
+    user_id             BIGINT    PRIMARY KEY,
+    total               BIGINT    NOT NULL DEFAULT 0,
+    todo                BIGINT    NOT NULL DEFAULT 0,
+    in_progress         BIGINT    NOT NULL DEFAULT 0,
+    done                BIGINT    NOT NULL DEFAULT 0,
+    high                BIGINT    NOT NULL DEFAULT 0,
+    medium              BIGINT    NOT NULL DEFAULT 0,
+    low                 BIGINT    NOT NULL DEFAULT 0,
+    high_todo           BIGINT    NOT NULL DEFAULT 0,
+    high_in_progress    BIGINT    NOT NULL DEFAULT 0,
+    high_done           BIGINT    NOT NULL DEFAULT 0,
+    medium_todo         BIGINT    NOT NULL DEFAULT 0,
+    medium_in_progress  BIGINT    NOT NULL DEFAULT 0,
+    medium_done         BIGINT    NOT NULL DEFAULT 0,
+    low_todo            BIGINT    NOT NULL DEFAULT 0,
+    low_in_progress     BIGINT    NOT NULL DEFAULT 0,
+    low_done            BIGINT    NOT NULL DEFAULT 0,
+    overdue             BIGINT    NOT NULL DEFAULT 0,
+    due_today           BIGINT    NOT NULL DEFAULT 0,
+    due_soon            BIGINT    NOT NULL DEFAULT 0,
+    on_track            BIGINT    NOT NULL DEFAULT 0,
+    no_date             BIGINT    NOT NULL DEFAULT 0,
+    buckets_date        DATE,
+    updated_at          TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_user_task_stats_user FOREIGN KEY (user_id) REFERENCES users(id)
+);
@@ -0,0 +1,6 @@
+CREATE INDEX idx_tasks_user_status_priority_due ON tasks (user_id, status, priority, due_date);
+
+CREATE INDEX idx_tasks_user_created ON tasks (user_id, created_at, id);
+
+-- Keyset pages sorted by due date (GET /api/tasks?sort=dueDate)
+CREATE INDEX idx_tasks_user_due ON tasks (user_id, due_date, id);
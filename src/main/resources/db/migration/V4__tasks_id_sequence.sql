@@ -0,0 +1,9 @@
+-- IDENTITY keys disable Hibernate insert batching; tasks ids now come from a pooled sequence.
+-- The column default keeps plain SQL inserts working and stays clear of Hibernate's id blocks.
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE tasks_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM tasks);
+
+ALTER TABLE tasks ALTER COLUMN id SET DEFAULT NEXT VALUE FOR tasks_seq;
@@ -0,0 +1,3 @@
+-- Optimistic locking: every update checks and bumps the row version, so concurrent edits fail instead of
+-- overwriting each other. Existing rows and plain SQL inserts start at 0.
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,32 @@
+-- Append-only history of task changes. A scheduled job folds it into one row per user and day, which is
+-- what trend charts read; raw events are kept for task-events.retention and then pruned.
+CREATE SEQUENCE task_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE task_events (
+    id           BIGINT      PRIMARY KEY,
+    user_id      BIGINT      NOT NULL,
+    task_id      BIGINT      NOT NULL,
+    event_type   VARCHAR(20) NOT NULL,
+    from_status  VARCHAR(20),
+    to_status    VARCHAR(20),
+    occurred_at  TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX idx_task_events_occurred_at ON task_events (occurred_at);
+
+CREATE TABLE task_daily_rollups (
+    user_id      BIGINT  NOT NULL,
+    rollup_date  DATE    NOT NULL,
+    created      INT     NOT NULL DEFAULT 0,
+    completed    INT     NOT NULL DEFAULT 0,
+    overdue      INT     NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, rollup_date)
+);
+
+-- Newest event id already counted in task_daily_rollups
+CREATE TABLE task_event_rollup_state (
+    id             INT     PRIMARY KEY,
+    last_event_id  BIGINT  NOT NULL
+);
+
+INSERT INTO task_event_rollup_state (id, last_event_id) VALUES (1, 0);
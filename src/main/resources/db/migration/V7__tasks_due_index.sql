@@ -0,0 +1,2 @@
+-- Reminder window scans across all users (due_date between ? and ?)
+CREATE INDEX idx_tasks_due ON tasks (due_date, id);
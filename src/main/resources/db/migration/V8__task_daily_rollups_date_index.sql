@@ -0,0 +1,3 @@
+-- The nightly overdue snapshot clears one day across all users (rollup_date = ?); the primary key leads
+-- with user_id, so without this it walks every rollup row
+CREATE INDEX idx_task_daily_rollups_date ON task_daily_rollups (rollup_date);
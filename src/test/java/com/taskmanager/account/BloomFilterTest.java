@@ -0,0 +1,83 @@
+package com.taskmanager.account;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int EXPECTED = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void neverReportsAnAddedValueAsAbsent() {
+        BloomFilter filter = new BloomFilter(EXPECTED, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED; i++) {
+            filter.add("user-" + i);
+        }
+
+        for (int i = 0; i < EXPECTED; i++) {
+            assertThat(filter.mightContain("user-" + i)).as("user-%d", i).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredRateAtCapacity() {
+        BloomFilter filter = new BloomFilter(EXPECTED, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < EXPECTED; i++) {
+            filter.add("user-" + i + "@example.com");
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("other-" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / probes).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    void sizesTheBitArrayAndHashCountFromTheExpectedInsertions() {
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+
+        // m = -n ln p / (ln 2)^2 = 958,506 bits, rounded up to whole 64-bit words; k = m / n ln 2
+        assertThat(filter.bitSize()).isBetween(958_506L, 958_506L + 63);
+        assertThat(filter.bitSize() % 64).isZero();
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThat(new BloomFilter(0, 0.01).bitSize()).isPositive();
+    }
+
+    @Test
+    void concurrentAddsAreNotLost() throws Exception {
+        BloomFilter filter = new BloomFilter(EXPECTED, FALSE_POSITIVE_RATE);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> adds = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                adds.add(pool.submit(() -> {
+                    for (int i = thread; i < EXPECTED; i += 4) {
+                        filter.add("user-" + i);
+                    }
+                }));
+            }
+            for (Future<?> add : adds) {
+                add.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < EXPECTED; i++) {
+            assertThat(filter.mightContain("user-" + i)).as("user-%d", i).isTrue();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskmanager.importer;
+
+import com.taskmanager.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvTaskRecordReaderTest {
+
+    private static final int MAX_RECORD_CHARS = 64;
+
+    @Test
+    void matchesColumnsByNameAndIgnoresUnknownOnes() throws IOException {
+        List<TaskRecord> records = read("\uFEFFId,PRIORITY,Title,dueDate,createdAt\r\n"
+                + "7,HIGH,Write report,2026-11-02,2026-10-01T10:00\r\n");
+
+        assertThat(records).hasSize(1);
+        TaskRecord record = records.get(0);
+        assertThat(record.error()).isNull();
+        assertThat(record.line()).isEqualTo(2);
+        assertThat(record.task().getTitle()).isEqualTo("Write report");
+        assertThat(record.task().getPriority()).isEqualTo("HIGH");
+        assertThat(record.task().getDueDate()).isEqualTo(LocalDate.of(2026, 11, 2));
+        assertThat(record.task().getDescription()).isNull();
+    }
+
+    @Test
+    void quotedFieldsKeepSeparatorsDoubledQuotesAndLineBreaks() throws IOException {
+        List<TaskRecord> records = read("title,description\n"
+                + "\"Plan, then build\",\"Say \"\"hi\"\"\r\nsecond line\"\n"
+                + "next,after\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).task().getTitle()).isEqualTo("Plan, then build");
+        assertThat(records.get(0).task().getDescription()).isEqualTo("Say \"hi\"\r\nsecond line");
+        assertThat(records.get(0).line()).isEqualTo(2);
+        // the quoted line break moves the next record down a line
+        assertThat(records.get(1).line()).isEqualTo(4);
+        assertThat(records.get(1).task().getTitle()).isEqualTo("next");
+    }
+
+    @Test
+    void skipsBlankLinesAndTreatsEmptyFieldsAsMissing() throws IOException {
+        List<TaskRecord> records = read("title,status\n\nonly title,\n\r\n");
+
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).line()).isEqualTo(3);
+        assertThat(records.get(0).task().getStatus()).isNull();
+    }
+
+    @Test
+    void oversizedRecordFailsWithoutLosingTheNextOne() throws IOException {
+        List<TaskRecord> records = read("title,description\n"
+                + "big,\"" + "x".repeat(MAX_RECORD_CHARS) + "\"\n"
+                + "small,fits\n");
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).task()).isNull();
+        assertThat(records.get(0).error()).isEqualTo("record exceeds " + MAX_RECORD_CHARS + " characters");
+        assertThat(records.get(1).task().getTitle()).isEqualTo("small");
+    }
+
+    @Test
+    void invalidDueDateFailsOnlyThatRecord() throws IOException {
+        List<TaskRecord> records = read("title,dueDate\nbad,tomorrow\ngood,2026-12-01\n");
+
+        assertThat(records.get(0).error()).startsWith("dueDate: ");
+        assertThat(records.get(1).task().getDueDate()).isEqualTo(LocalDate.of(2026, 12, 1));
+    }
+
+    @Test
+    void rejectsInputWithoutATitleColumnOrHeader() {
+        assertThatThrownBy(() -> read("name,status\nx,TODO\n"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("title column");
+        assertThatThrownBy(() -> read(""))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("header row");
+    }
+
+    private static List<TaskRecord> read(String csv) throws IOException {
+        CsvTaskRecordReader reader = new CsvTaskRecordReader(new StringReader(csv), MAX_RECORD_CHARS);
+        List<TaskRecord> records = new ArrayList<>();
+        TaskRecord record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,395 @@
+package com.taskmanager.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.TaskManagementSystemApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.net.CookieManager;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process HTTP load test. Boots the application on a random port, seeds {@code load.users} users with
+ * {@code load.tasks} tasks each, then drives a weighted mix of API and UI requests from
+ * {@code load.clients} concurrent clients. After a warmup it records latencies per operation in
+ * HdrHistograms for a fixed duration and prints throughput and percentiles. Every run with the same
+ * settings issues the same request sequence per client, and the results are also written as JSON to
+ * {@code load.out} so they can be compared across runs.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.taskmanager.load.TaskLoadRunner [-Dload.clients=128 -Dload.mix=api-list=50,ui-status=50]}.
+ * With {@code -Dload.virtual-threads=true} on a Java 21+ JVM the server handles requests on virtual
+ * threads, so running it once each way compares the two modes under the same load.
+ * <p>
+ * The {@code login} operation signs in over the API, paying for a BCrypt verification each time. A mix such
+ * as {@code -Dload.mix=api-list=50,login=50} shows how task reads hold up during a login burst; adding
+ * {@code -Dauth.hashing.threads=200} lets every request thread hash at once, as before the hashing pool.
+ * Logins turned away with 503 count as errors.
+ */
+public class TaskLoadRunner {
+
+    enum Operation {
+        API_LIST("api-list"),
+        API_CREATE("api-create"),
+        UI_LIST("ui-list"),
+        UI_STATUS("ui-status"),
+        STATS("stats"),
+        LOGIN("login");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        static Operation fromKey(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation in load.mix: " + key);
+        }
+    }
+
+    private static final String PASSWORD = "loadtest";
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final String[] PRIORITIES = {"HIGH", "MEDIUM", "LOW"};
+    private static final long MAX_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final int users = Integer.getInteger("load.users", 20);
+    private final int tasksPerUser = Integer.getInteger("load.tasks", 200);
+    private final int clients = Integer.getInteger("load.clients", 64);
+    private final boolean virtualThreads = Boolean.getBoolean("load.virtual-threads");
+    private final Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup", 10));
+    private final Duration duration = Duration.ofSeconds(Long.getLong("load.duration", 30));
+    private final long seed = Long.getLong("load.seed", 42);
+    private final String mixSpec = System.getProperty("load.mix", "api-list=35,ui-list=25,ui-status=20,stats=10,api-create=10");
+    private final File output = new File(System.getProperty("load.out", "target/loadtest-result.json"));
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    private String baseUrl;
+
+    public static void main(String[] args) throws Exception {
+        new TaskLoadRunner().run();
+    }
+
+    private void run() throws Exception {
+        Map<Operation, Integer> mix = parseMix(mixSpec);
+        ConfigurableApplicationContext context = SpringApplication.run(TaskManagementSystemApplication.class,
+                "--server.port=0", "--management.server.port=0", "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.taskmanager=WARN", "--logging.level.org.springframework.security=WARN",
+                "--logging.level.com.taskmanager.config.VirtualThreadPinningMonitor=INFO",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                // platform runs must not queue clients behind Tomcat's default 200 threads
+                "--server.tomcat.threads.max=" + Math.max(200, clients));
+        try {
+            baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            List<VirtualUser> seeded = seed(context);
+            for (Operation operation : Operation.values()) {
+                histograms.put(operation, new ConcurrentHistogram(MAX_LATENCY_NANOS, 3));
+                errors.put(operation, new AtomicLong());
+            }
+
+            ExecutorService pool = Executors.newFixedThreadPool(clients);
+            for (int i = 0; i < clients; i++) {
+                Random random = new Random(seed + i);
+                VirtualUser user = seeded.get(i % seeded.size());
+                pool.execute(() -> drive(user, mix, random));
+            }
+
+            Thread.sleep(warmup.toMillis());
+            histograms.values().forEach(Histogram::reset);
+            errors.values().forEach(counter -> counter.set(0));
+            recording = true;
+            long start = System.nanoTime();
+            Thread.sleep(duration.toMillis());
+            recording = false;
+            long elapsed = System.nanoTime() - start;
+            running = false;
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+
+            report(mix, elapsed);
+            reportPinning(context);
+        } finally {
+            context.close();
+        }
+    }
+
+    private void drive(VirtualUser user, Map<Operation, Integer> mix, Random random) {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        while (running) {
+            Operation operation = pick(mix, totalWeight, random);
+            HttpRequest request = user.request(operation, random);
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                int status = user.client(operation).send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                ok = status < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long latency = System.nanoTime() - start;
+            if (recording) {
+                histograms.get(operation).recordValue(Math.min(latency, MAX_LATENCY_NANOS));
+                if (!ok) {
+                    errors.get(operation).incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private static Operation pick(Map<Operation, Integer> mix, int totalWeight, Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty load.mix");
+    }
+
+    private List<VirtualUser> seed(ConfigurableApplicationContext context) throws Exception {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        String hash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        Random random = new Random(seed);
+        LocalDate today = LocalDate.now();
+
+        List<VirtualUser> seeded = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            String username = "load" + u;
+            jdbc.update("INSERT INTO users (username, email, password) VALUES (?, ?, ?)",
+                    username, username + "@example.com", hash);
+            Long userId = jdbc.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, username);
+
+            List<Object[]> rows = new ArrayList<>(tasksPerUser);
+            for (int t = 0; t < tasksPerUser; t++) {
+                rows.add(new Object[]{"Task " + t, STATUSES[random.nextInt(STATUSES.length)],
+                        PRIORITIES[random.nextInt(PRIORITIES.length)],
+                        t % 5 == 0 ? null : Date.valueOf(today.plusDays(random.nextInt(40) - 10)), userId});
+            }
+            jdbc.batchUpdate("INSERT INTO tasks (title, status, priority, due_date, user_id) VALUES (?, ?, ?, ?, ?)", rows);
+            List<Long> taskIds = jdbc.queryForList("SELECT id FROM tasks WHERE user_id = ?", Long.class, userId);
+
+            VirtualUser user = new VirtualUser(username, taskIds);
+            user.signIn();
+            seeded.add(user);
+        }
+        return seeded;
+    }
+
+    private void report(Map<Operation, Integer> mix, long elapsedNanos) throws Exception {
+        double seconds = elapsedNanos / 1e9;
+        Map<String, Object> results = new LinkedHashMap<>();
+        Histogram all = new Histogram(MAX_LATENCY_NANOS, 3);
+        long allErrors = 0;
+
+        System.out.printf("%nusers=%d tasks/user=%d clients=%d threads=%s warmup=%ds duration=%ds mix=%s%n",
+                users, tasksPerUser, clients, virtualThreads ? "virtual" : "platform",
+                warmup.toSeconds(), duration.toSeconds(), mixSpec);
+        System.out.printf("%-12s %9s %10s %9s %9s %9s %9s %7s%n",
+                "operation", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "errors");
+        for (Operation operation : mix.keySet()) {
+            Histogram histogram = histograms.get(operation);
+            long errorCount = errors.get(operation).get();
+            all.add(histogram);
+            allErrors += errorCount;
+            results.put(operation.key, summary(histogram, errorCount, seconds));
+            print(operation.key, histogram, errorCount, seconds);
+        }
+        print("total", all, allErrors, seconds);
+        results.put("total", summary(all, allErrors, seconds));
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", users);
+        config.put("tasksPerUser", tasksPerUser);
+        config.put("clients", clients);
+        config.put("virtualThreads", virtualThreads);
+        config.put("warmupSeconds", warmup.toSeconds());
+        config.put("durationSeconds", duration.toSeconds());
+        config.put("seed", seed);
+        config.put("mix", mixSpec);
+        config.put("java", System.getProperty("java.version"));
+        config.put("processors", Runtime.getRuntime().availableProcessors());
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("config", config);
+        document.put("results", results);
+        output.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, document);
+        System.out.println("Results written to " + output.getPath());
+    }
+
+    private void reportPinning(ConfigurableApplicationContext context) {
+        Timer pinned = context.getBean(MeterRegistry.class).find("taskmanager.virtual.threads.pinned").timer();
+        if (virtualThreads && pinned == null) {
+            System.out.println("Virtual threads requested but not active: run on a Java 21+ JVM");
+        } else if (pinned != null) {
+            System.out.printf("Pinned virtual threads: %d (total %.1f ms)%n",
+                    pinned.count(), pinned.totalTime(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static void print(String name, Histogram histogram, long errorCount, double seconds) {
+        System.out.printf("%-12s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %7d%n", name, histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds, millis(histogram, 50), millis(histogram, 99),
+                millis(histogram, 99.9), histogram.getMaxValue() / 1e6, errorCount);
+    }
+
+    private static Map<String, Object> summary(Histogram histogram, long errorCount, double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", histogram.getTotalCount());
+        summary.put("throughput", histogram.getTotalCount() / seconds);
+        summary.put("p50Ms", millis(histogram, 50));
+        summary.put("p99Ms", millis(histogram, 99));
+        summary.put("p999Ms", millis(histogram, 99.9));
+        summary.put("maxMs", histogram.getMaxValue() / 1e6);
+        summary.put("errors", errorCount);
+        return summary;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("load.mix has no positive weights: " + spec);
+        }
+        return mix;
+    }
+
+    /**
+     * One seeded account with a bearer token for the REST API and a session cookie for the UI. The two
+     * use separate clients, like an API consumer and a browser: a bearer-authenticated request that
+     * carries the session cookie would rotate the session's CSRF token under the UI client.
+     */
+    private class VirtualUser {
+
+        private final String username;
+        private final List<Long> taskIds;
+        private final CookieManager cookies = new CookieManager();
+        private final HttpClient apiClient = HttpClient.newHttpClient();
+        private final HttpClient uiClient;
+        private String token;
+        private String csrfToken;
+
+        VirtualUser(String username, List<Long> taskIds) {
+            this.username = username;
+            this.taskIds = taskIds;
+            this.uiClient = HttpClient.newBuilder()
+                    .cookieHandler(cookies)
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+        }
+
+        void signIn() throws Exception {
+            String response = apiClient.send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(credentials())).build(),
+                    HttpResponse.BodyHandlers.ofString()).body();
+            token = new ObjectMapper().readTree(response).get("token").asText();
+
+            uiClient.send(HttpRequest.newBuilder(uri("/login")).GET().build(), HttpResponse.BodyHandlers.discarding());
+            csrfToken = cookies.getCookieStore().getCookies().stream()
+                    .filter(cookie -> "XSRF-TOKEN".equals(cookie.getName()))
+                    .map(HttpCookie::getValue)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No XSRF-TOKEN cookie for " + username));
+            HttpResponse<Void> login = uiClient.send(form("/ui/login",
+                    "username=" + username + "&password=" + PASSWORD), HttpResponse.BodyHandlers.discarding());
+            if (!login.headers().firstValue("Location").orElse("").endsWith("/dashboard")) {
+                throw new IllegalStateException("UI login failed for " + username);
+            }
+        }
+
+        HttpClient client(Operation operation) {
+            return operation == Operation.API_LIST || operation == Operation.API_CREATE
+                    || operation == Operation.LOGIN ? apiClient : uiClient;
+        }
+
+        HttpRequest request(Operation operation, Random random) {
+            return switch (operation) {
+                case API_LIST -> HttpRequest.newBuilder(uri("/api/tasks"))
+                        .header("Authorization", "Bearer " + token)
+                        .GET().build();
+                case API_CREATE -> HttpRequest.newBuilder(uri("/api/tasks"))
+                        .header("Authorization", "Bearer " + token)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"Load task\",\"priority\":\""
+                                + PRIORITIES[random.nextInt(PRIORITIES.length)] + "\"}"))
+                        .build();
+                case UI_LIST -> HttpRequest.newBuilder(uri("/ui/tasks/list"))
+                        .header("HX-Request", "true")
+                        .GET().build();
+                case UI_STATUS -> form("/ui/tasks/" + taskIds.get(random.nextInt(taskIds.size())) + "/status",
+                        "status=" + URLEncoder.encode(STATUSES[random.nextInt(STATUSES.length)], StandardCharsets.UTF_8));
+                case STATS -> HttpRequest.newBuilder(uri("/stats")).GET().build();
+                case LOGIN -> HttpRequest.newBuilder(uri("/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(credentials()))
+                        .build();
+            };
+        }
+
+        private String credentials() {
+            return "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}";
+        }
+
+        private HttpRequest form(String path, String body) {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .header("X-XSRF-TOKEN", csrfToken)
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private URI uri(String path) {
+            return URI.create(baseUrl + path);
+        }
+    }
+}
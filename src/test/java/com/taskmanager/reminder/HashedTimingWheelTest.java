@@ -0,0 +1,94 @@
+package com.taskmanager.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final int WHEEL_SIZE = 8;
+
+    private final HashedTimingWheel<Integer, String> wheel = new HashedTimingWheel<>(TICK, WHEEL_SIZE, 0);
+
+    @Test
+    void expiresEachTimeoutOnTheFirstTickAtOrAfterItsDeadline() {
+        wheel.schedule(1, 3000, "a");
+        wheel.schedule(2, 4500, "b");
+
+        assertThat(wheel.advance(2999)).isEmpty();
+        assertThat(wheel.advance(3000)).containsExactly("a");
+        assertThat(wheel.advance(4999)).isEmpty();
+        assertThat(wheel.advance(5000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void schedulingAPendingKeyReplacesIt() {
+        wheel.schedule(1, 2000, "first");
+        wheel.schedule(1, 6000, "second");
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(5000)).isEmpty();
+        assertThat(wheel.advance(6000)).containsExactly("second");
+    }
+
+    @Test
+    void scheduleIfAbsentKeepsThePendingTimeout() {
+        wheel.schedule(1, 2000, "event");
+
+        assertThat(wheel.scheduleIfAbsent(1, 3000, "refill")).isFalse();
+        assertThat(wheel.scheduleIfAbsent(2, 3000, "refill")).isTrue();
+        assertThat(wheel.advance(3000)).containsExactly("event", "refill");
+    }
+
+    @Test
+    void cancelledTimeoutsNeverExpire() {
+        wheel.schedule(1, 2000, "a");
+        wheel.schedule(2, 2000, "b");
+        wheel.schedule(3, 2000, "c");
+
+        assertThat(wheel.cancel(2)).isTrue();
+        assertThat(wheel.cancel(2)).isFalse();
+        assertThat(wheel.advance(2000)).containsExactly("a", "c");
+    }
+
+    @Test
+    void deadlineInThePastExpiresOnTheNextTick() {
+        wheel.advance(5000);
+        wheel.schedule(1, 1000, "late");
+
+        assertThat(wheel.advance(5999)).isEmpty();
+        assertThat(wheel.advance(6000)).containsExactly("late");
+    }
+
+    @Test
+    void timeoutMoreThanOneRevolutionOutWaitsForItsOwnPass() {
+        // tick 20 shares bucket 4 with ticks 4 and 12
+        wheel.schedule(1, 20_000, "far");
+        wheel.schedule(2, 4000, "near");
+
+        List<String> expired = new ArrayList<>();
+        for (long now = TICK; now < 20_000; now += TICK) {
+            expired.addAll(wheel.advance(now));
+        }
+        assertThat(expired).containsExactly("near");
+        assertThat(wheel.advance(20_000)).containsExactly("far");
+    }
+
+    @Test
+    void gapOfAFullRevolutionOrMoreExpiresEverythingDueInOnePass() {
+        wheel.schedule(1, 3000, "a");
+        wheel.schedule(2, 7000, "b");
+        wheel.schedule(3, 30_000, "c");
+        wheel.schedule(4, 60_000, "d");
+
+        assertThat(wheel.advance(30_000)).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(59_999)).isEmpty();
+        assertThat(wheel.advance(60_000)).containsExactly("d");
+    }
+}
@@ -0,0 +1,175 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.request.TaskFilterDto;
+import com.taskmanager.entity.Task;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every per-user repository query, and the cross-user reminder, account and history rollup
+ * statements, against a seeded dataset, then EXPLAINs the SQL Hibernate generated for it and fails if
+ * the plan falls back to a table scan. Updates, deletes and merges are explained too, since their WHERE
+ * clause needs an index just as much; the transaction is rolled back so they leave the data as seeded.
+ * The second-level cache is off so every call reaches the database.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.taskmanager.repository.RecordingStatementInspector"
+})
+class TaskRepositoryQueryPlanTest {
+
+    private static final int USERS = 20;
+    private static final int TASKS_PER_USER = 500;
+    private static final int DAYS_OF_HISTORY = 60;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserTaskStatsRepository userTaskStatsRepository;
+
+    @Autowired
+    private TaskEventRepository taskEventRepository;
+
+    @Autowired
+    private TaskDailyRollupRepository taskDailyRollupRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private static Long userId;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbc) {
+        String[] statuses = {"TODO", "IN_PROGRESS", "DONE"};
+        String[] priorities = {"LOW", "MEDIUM", "HIGH"};
+        LocalDate today = LocalDate.now();
+        for (int u = 0; u < USERS; u++) {
+            jdbc.update("INSERT INTO users (username, email, password, role) VALUES (?, ?, 'x', 'ROLE_USER')",
+                    "plan-user-" + u, "plan-user-" + u + "@test.com");
+            Long id = jdbc.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, "plan-user-" + u);
+            List<Object[]> rows = new ArrayList<>();
+            for (int t = 0; t < TASKS_PER_USER; t++) {
+                rows.add(new Object[]{"task " + t, statuses[t % 3], priorities[(t / 3) % 3],
+                        t % 7 == 0 ? null : today.plusDays(t % 60 - 30), id});
+            }
+            jdbc.batchUpdate("INSERT INTO tasks (title, status, priority, due_date, user_id) VALUES (?, ?, ?, ?, ?)", rows);
+            List<Object[]> events = new ArrayList<>();
+            List<Object[]> rollups = new ArrayList<>();
+            for (int d = 0; d < DAYS_OF_HISTORY; d++) {
+                events.add(new Object[]{id, statuses[d % 3], today.minusDays(d).atStartOfDay()});
+                rollups.add(new Object[]{id, today.minusDays(d)});
+            }
+            jdbc.batchUpdate("INSERT INTO task_events (id, user_id, task_id, event_type, to_status, occurred_at) "
+                    + "VALUES (NEXT VALUE FOR task_events_seq, ?, 1, 'UPDATED', ?, ?)", events);
+            jdbc.batchUpdate("INSERT INTO task_daily_rollups (user_id, rollup_date) VALUES (?, ?)", rollups);
+            userId = id;
+        }
+        jdbc.execute("ANALYZE");
+    }
+
+    @Test
+    void perUserQueriesUseAnIndex() throws SQLException {
+        LocalDate today = LocalDate.now();
+        TaskFilterDto noFilter = new TaskFilterDto();
+        TaskFilterDto filtered = TaskFilterDto.builder()
+                .status("TODO").priority("HIGH").dueFrom(today).dueTo(today.plusDays(10)).build();
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.findAllByUserId(userId);
+            taskRepository.findRowsByUserId(userId);
+            taskRepository.findRowsByIdInAndUserId(List.of(1L, 2L), userId);
+            taskRepository.findAllByIdInAndUserId(List.of(1L, 2L), userId);
+            taskRepository.findSearchRowsByUserId(userId);
+            try (Stream<Task> export = taskRepository.streamAllByUserId(userId)) {
+                export.findFirst();
+            }
+            taskRepository.findRowByIdAndUserId(1L, userId);
+            taskRepository.updateStatus(1L, userId, 0L, "DONE");
+            taskRepository.findByIdAndUserId(1L, userId);
+            taskRepository.findPageByUserId(userId, noFilter, TaskSort.CREATED_AT, null, 50);
+            taskRepository.findPageByUserId(userId, filtered, TaskSort.CREATED_AT,
+                    new TaskCursor(TaskSort.CREATED_AT, null, LocalDateTime.now(), 10L), 50);
+            taskRepository.findPageByUserId(userId, noFilter, TaskSort.DUE_DATE,
+                    new TaskCursor(TaskSort.DUE_DATE, today, null, 10L), 50);
+            taskRepository.findPageByUserId(userId, noFilter, TaskSort.DUE_DATE,
+                    new TaskCursor(TaskSort.DUE_DATE, null, null, 10L), 50);
+            taskRepository.aggregateStatsByUserId(userId, today, today.plusDays(3));
+            taskRepository.findOpenRowsDueBetween(today, today.plusDays(1));
+            taskRepository.findRowsByIdIn(List.of(1L, 2L));
+            userRepository.findByUsername("plan-user-1");
+            userRepository.findIdByUsername("plan-user-2");
+            userRepository.existsByUsername("plan-user-1");
+            userRepository.existsByEmail("plan-user-1@test.com");
+            userRepository.findAccountRowsAfter(userId - 5, Limit.of(1000));
+            userTaskStatsRepository.findForUpdate(userId);
+            taskEventRepository.lockRollupWatermark();
+            taskEventRepository.findMaxId();
+            taskEventRepository.rollUp(0, 100);
+            taskEventRepository.advanceRollupWatermark(100);
+            taskEventRepository.clearOverdue(today);
+            taskEventRepository.snapshotOverdue(today);
+            taskEventRepository.pruneRolledUp(100, LocalDateTime.now().minusDays(30));
+            taskDailyRollupRepository.findFrom(userId, today.minusDays(30));
+            status.setRollbackOnly();
+        });
+        List<String> queries = RecordingStatementInspector.STATEMENTS.stream()
+                .filter(TaskRepositoryQueryPlanTest::isExplainable)
+                .distinct()
+                .toList();
+
+        assertThat(queries).hasSizeGreaterThanOrEqualTo(30);
+        for (String sql : queries) {
+            assertThat(explain(sql)).as("plan for %s", sql).doesNotContain("tableScan");
+        }
+    }
+
+    private static boolean isExplainable(String sql) {
+        String statement = sql.stripLeading().toLowerCase();
+        return statement.startsWith("select") || statement.startsWith("update")
+                || statement.startsWith("delete") || statement.startsWith("merge");
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            ParameterMetaData metaData = statement.getParameterMetaData();
+            for (int i = 1; i <= metaData.getParameterCount(); i++) {
+                statement.setNull(i, metaData.getParameterType(i));
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        }
+    }
+}
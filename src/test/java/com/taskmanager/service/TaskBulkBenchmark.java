@@ -0,0 +1,159 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.TaskManagementSystemApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Insert throughput of one POST per task against {@code POST /api/tasks/bulk} with batched JDBC inserts
+ * and against the streaming {@code POST /api/tasks/import}, plus bulk UPDATE items on the created tasks.
+ * Boots the application on a random port. Run with {@code mvn test-compile exec:java
+ * -Dexec.classpathScope=test -Dexec.mainClass=com.taskmanager.service.TaskBulkBenchmark}.
+ */
+public class TaskBulkBenchmark {
+
+    private static final int ROWS = 5_000;
+    private static final int BATCH = 500;
+    private static final int IMPORT_ROWS = 50_000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final HttpClient CLIENT = HttpClient.newHttpClient();
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = SpringApplication.run(TaskManagementSystemApplication.class,
+                "--server.port=0", "--management.server.port=0", "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN", "--logging.level.com.taskmanager=WARN",
+                "--logging.level.org.springframework.security=WARN");
+        try {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            String base = "http://localhost:" + port + "/api";
+            String token = register(base);
+
+            // warm up every path before measuring
+            single(base, token, 500);
+            List<Long> warmIds = new ArrayList<>();
+            bulk(base, token, 500, warmIds);
+            bulkUpdate(base, token, warmIds);
+            importBody(base, token, "application/x-ndjson", ndjson(500));
+            importBody(base, token, "text/csv", csv(500));
+
+            report("single POST /api/tasks", single(base, token, ROWS));
+            List<Long> ids = new ArrayList<>(ROWS);
+            report("POST /api/tasks/bulk (" + BATCH + " per request)", bulk(base, token, ROWS, ids));
+            report("POST /api/tasks/bulk UPDATE (" + BATCH + " per request)", bulkUpdate(base, token, ids));
+            report("POST /api/tasks/import (NDJSON)", importBody(base, token, "application/x-ndjson", ndjson(IMPORT_ROWS)),
+                    IMPORT_ROWS);
+            report("POST /api/tasks/import (CSV)", importBody(base, token, "text/csv", csv(IMPORT_ROWS)), IMPORT_ROWS);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static long single(String base, String token, int rows) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            send(base + "/tasks", token, Map.of("title", "single " + i, "priority", "LOW"), 201);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /** Creates {@code rows} tasks and adds their ids to {@code ids}. */
+    private static long bulk(String base, String token, int rows, List<Long> ids) throws Exception {
+        long start = System.nanoTime();
+        for (int offset = 0; offset < rows; offset += BATCH) {
+            List<Map<String, Object>> items = new ArrayList<>(BATCH);
+            for (int i = offset; i < Math.min(rows, offset + BATCH); i++) {
+                items.add(Map.of("op", "CREATE", "title", "bulk " + i, "priority", "LOW"));
+            }
+            JsonNode response = send(base + "/tasks/bulk", token, Map.of("items", items), 200);
+            response.get("results").forEach(result -> ids.add(result.get("id").asLong()));
+        }
+        return System.nanoTime() - start;
+    }
+
+    /** Moves every task to IN_PROGRESS, as a board drag of many cards would. */
+    private static long bulkUpdate(String base, String token, List<Long> ids) throws Exception {
+        long start = System.nanoTime();
+        for (int offset = 0; offset < ids.size(); offset += BATCH) {
+            List<Map<String, Object>> items = new ArrayList<>(BATCH);
+            for (Long id : ids.subList(offset, Math.min(ids.size(), offset + BATCH))) {
+                items.add(Map.of("op", "UPDATE", "id", id, "status", "IN_PROGRESS"));
+            }
+            send(base + "/tasks/bulk", token, Map.of("items", items), 200);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long importBody(String base, String token, String contentType, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/tasks/import"))
+                .header("Content-Type", contentType)
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsed = System.nanoTime() - start;
+        JsonNode report = MAPPER.readTree(response.body());
+        if (response.statusCode() != 200 || report.get("failed").asLong() != 0) {
+            throw new IllegalStateException("import returned " + response.statusCode() + ": " + response.body());
+        }
+        return elapsed;
+    }
+
+    private static String ndjson(int rows) throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            body.append(MAPPER.writeValueAsString(Map.of("title", "import " + i, "priority", "LOW"))).append('\n');
+        }
+        return body.toString();
+    }
+
+    private static String csv(int rows) {
+        StringBuilder body = new StringBuilder("title,priority\r\n");
+        for (int i = 0; i < rows; i++) {
+            body.append("import ").append(i).append(",LOW\r\n");
+        }
+        return body.toString();
+    }
+
+    private static String register(String base) throws Exception {
+        String username = "bench" + System.nanoTime() % 100_000;
+        send(base + "/auth/register", null,
+                Map.of("username", username, "email", username + "@example.com", "password", "benchmark"), 200);
+        JsonNode response = send(base + "/auth/login", null, Map.of("username", username, "password", "benchmark"), 200);
+        return response.get("token").asText();
+    }
+
+    private static JsonNode send(String url, String token, Object body, int expected) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = CLIENT.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expected) {
+            throw new IllegalStateException(url + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return MAPPER.readTree(response.body());
+    }
+
+    private static void report(String name, long nanos) {
+        report(name, nanos, ROWS);
+    }
+
+    private static void report(String name, long nanos, int rows) {
+        System.out.printf("%-45s %8.0f rows/s%n", name, rows / (nanos / 1e9));
+    }
+}
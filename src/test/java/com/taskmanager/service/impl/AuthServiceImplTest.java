@@ -0,0 +1,108 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.dto.request.LoginRequestDto;
+import com.taskmanager.exception.ServiceUnavailableException;
+import com.taskmanager.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Login while the password hashing pool is saturated: a known and an unknown username must both be refused
+ * with {@link ServiceUnavailableException}, which the API maps to 503 with Retry-After.
+ */
+class AuthServiceImplTest {
+
+    private static final String KNOWN = "alice";
+
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder encoder;
+    private AuthServiceImpl authService;
+    private CompletableFuture<String> running;
+    private CompletableFuture<String> queued;
+
+    @BeforeEach
+    void saturateHashingPool() throws InterruptedException {
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if ("block".contentEquals(rawPassword)) {
+                    hashing.countDown();
+                    awaitRelease();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        // one thread and one queue slot, both taken by blocked hashes, so the next hash is rejected outright
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(10), meterRegistry);
+        String knownHash = new BCryptPasswordEncoder(4).encode("secret");
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(encoder);
+        provider.setUserDetailsService(username -> {
+            if (!KNOWN.equals(username)) {
+                throw new UsernameNotFoundException(username);
+            }
+            return User.withUsername(KNOWN).password(knownHash).roles("USER").build();
+        });
+        authService = new AuthServiceImpl(null, encoder, null, new ProviderManager(provider), null, null, null, null);
+
+        running = CompletableFuture.supplyAsync(() -> encoder.encode("block"));
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        queued = CompletableFuture.supplyAsync(() -> encoder.encode("block"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password-hash").gauge().value() < 1) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    @AfterEach
+    void releasePool() {
+        release.countDown();
+        running.join();
+        queued.join();
+        encoder.close();
+    }
+
+    @Test
+    void knownUsernameIsRefusedWhileThePoolIsFull() {
+        assertThatThrownBy(() -> authService.login(login(KNOWN)))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    void unknownUsernameIsRefusedTheSameWay() {
+        assertThatThrownBy(() -> authService.login(login("mallory")))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private static LoginRequestDto login(String username) {
+        return LoginRequestDto.builder().username(username).password("secret").build();
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.taskmanager.stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserEventStreamTest {
+
+    private static final String EPOCH = "e";
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Test
+    void newClientGetsReady() {
+        UserEventStream stream = new UserEventStream(10, EPOCH, sequence, 0);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        assertThat(stream.attach(connection(emitter, 1024), null)).isTrue();
+        assertThat(emitter.events()).containsExactly("ready@e-0");
+    }
+
+    @Test
+    void reconnectReplaysOnlyTheEventsAfterLastSeen() {
+        UserEventStream stream = new UserEventStream(10, EPOCH, sequence, 0);
+        stream.publish("created", "{\"id\":1}");
+        stream.publish("updated", "{\"id\":1}");
+        stream.publish("deleted", "{\"id\":1}");
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        assertThat(stream.attach(connection(emitter, 1024), 1L)).isTrue();
+        assertThat(emitter.events()).containsExactly("updated@e-2", "deleted@e-3");
+    }
+
+    @Test
+    void publishedEventsReachAttachedConnections() {
+        UserEventStream stream = new UserEventStream(10, EPOCH, sequence, 0);
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.attach(connection(emitter, 1024), null);
+
+        stream.publish("created", "{\"id\":1}");
+
+        assertThat(emitter.events()).containsExactly("ready@e-0", "created@e-1");
+    }
+
+    @Test
+    void clientAtTheHorizonIsReplayedAndOneBelowItIsReset() {
+        UserEventStream stream = new UserEventStream(2, EPOCH, sequence, 0);
+        stream.publish("created", "{\"id\":1}");
+        stream.publish("created", "{\"id\":2}");
+        stream.publish("created", "{\"id\":3}");
+        // capacity 2: seq 1 was evicted, so the horizon is 1
+
+        RecordingEmitter atHorizon = new RecordingEmitter();
+        assertThat(stream.attach(connection(atHorizon, 1024), 1L)).isTrue();
+        assertThat(atHorizon.events()).containsExactly("created@e-2", "created@e-3");
+
+        RecordingEmitter belowHorizon = new RecordingEmitter();
+        assertThat(stream.attach(connection(belowHorizon, 1024), 0L)).isFalse();
+        assertThat(belowHorizon.events()).containsExactly("reset@e-3");
+    }
+
+    @Test
+    void eventsFromBeforeTheStreamExistedCannotBeReplayed() {
+        sequence.set(5);
+        UserEventStream stream = new UserEventStream(10, EPOCH, sequence, 0);
+        stream.publish("created", "{\"id\":1}");
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        assertThat(stream.attach(connection(emitter, 1024), 4L)).isFalse();
+        assertThat(emitter.events()).containsExactly("reset@e-6");
+    }
+
+    @Test
+    void missedEventsLargerThanTheConnectionCapResetInstead() {
+        UserEventStream stream = new UserEventStream(10, EPOCH, sequence, 0);
+        stream.publish("created", "x".repeat(200));
+        stream.publish("created", "x".repeat(200));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        assertThat(stream.attach(connection(emitter, 300), 0L)).isFalse();
+        assertThat(emitter.events()).containsExactly("reset@e-2");
+    }
+
+    private static SseConnection connection(RecordingEmitter emitter, long maxBufferedBytes) {
+        return new SseConnection(emitter, Runnable::run, maxBufferedBytes);
+    }
+
+    /** Records each event as {@code name@id} instead of writing it to a response. */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String text = builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining());
+            events.add(field(text, "event:") + "@" + field(text, "id:"));
+        }
+
+        List<String> events() {
+            return events;
+        }
+
+        private static String field(String text, String prefix) {
+            return text.lines()
+                    .filter(line -> line.startsWith(prefix))
+                    .map(line -> line.substring(prefix.length()))
+                    .findFirst()
+                    .orElse("");
+        }
+    }
+}